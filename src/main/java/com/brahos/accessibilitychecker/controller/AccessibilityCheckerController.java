@@ -6,30 +6,49 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Future;
 
 import org.bson.types.ObjectId;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.servlet.http.HttpServletResponse;
 
 import com.brahos.accessibilitychecker.model.AccessibilityCheckRequest;
 import com.brahos.accessibilitychecker.model.CustomResponse;
 import com.brahos.accessibilitychecker.model.GuidelineResponse;
 import com.brahos.accessibilitychecker.model.ScanDataRequest;
 import com.brahos.accessibilitychecker.model.ScanDataResponse;
+import com.brahos.accessibilitychecker.model.ScanJob;
+import com.brahos.accessibilitychecker.model.ScanOptions;
+import com.brahos.accessibilitychecker.model.ScanResultPage;
+import com.brahos.accessibilitychecker.model.ScanSummary;
 import com.brahos.accessibilitychecker.repository.AccessibilityCheckerScanResponseRepository;
 import com.brahos.accessibilitychecker.repository.AccessibilityCheckerService;
 import com.brahos.accessibilitychecker.repository.AccessibilityScanResponseService;
+import com.brahos.accessibilitychecker.repository.IssueSnippetRepository;
+import com.brahos.accessibilitychecker.repository.ScanIssueExporter;
+import com.brahos.accessibilitychecker.repository.ScanResultWriter;
+import com.brahos.accessibilitychecker.service.GuidelineExecutorService;
+import com.brahos.accessibilitychecker.service.ScanJobService;
+import com.brahos.accessibilitychecker.service.ScanListener;
+import com.brahos.accessibilitychecker.utility.FetchedPage;
+import com.brahos.accessibilitychecker.utility.PageFetcher;
+import com.brahos.accessibilitychecker.utility.PageResultCache;
+import com.brahos.accessibilitychecker.utility.ScanPipeline;
 import com.brahos.accessibilitychecker.utility.WcagGuidelines_2_0_AllVersion;
 import com.brahos.accessibilitychecker.utility.WebDriverFactory;
 
@@ -50,6 +69,33 @@ public class AccessibilityCheckerController {
 	@Autowired
 	AccessibilityCheckerScanResponseRepository accessibilityCheckerScanResponseRepository;
 
+	@Autowired
+	private ScanPipeline scanPipeline;
+
+	@Autowired
+	private PageFetcher pageFetcher;
+
+	@Autowired
+	private PageResultCache pageResultCache;
+
+	@Autowired
+	private ScanResultWriter scanResultWriter;
+
+	@Autowired
+	private ScanIssueExporter scanIssueExporter;
+
+	@Autowired
+	private IssueSnippetRepository issueSnippetRepository;
+
+	@Autowired
+	private ScanJobService scanJobService;
+
+	@Autowired
+	private GuidelineExecutorService guidelineExecutorService;
+
+	@Value("${scan.stream.timeout-ms:1800000}")
+	private long streamTimeoutMillis;
+
 	@PostMapping("/get-urls")
 	public ResponseEntity<?> getAllUrlsByScanId(@RequestBody ScanDataRequest scanDataRequest) {
 		ObjectId scanId = scanDataRequest.getScanId();
@@ -94,27 +140,31 @@ public class AccessibilityCheckerController {
 			String wcagVersion = scanDataRequest.getVersion();
 			String level = scanDataRequest.getLevel();
 
-			List<GuidelineResponse> responses = new ArrayList<>();
-			for (String url : allUrls) {
-				if (!isValidInput(url, level)) {
-					logger.error("Invalid input: URL: {}, Level: {}", url, level);
-					return ResponseEntity.badRequest()
-							.body("Invalid input. Ensure the URL and WCAG level are correct.");
-				}
-
-				URI uri = validateAndParseUrl(url);
-				Document document = fetchDocumentFromUrl(uri);
-
-				GuidelineResponse guidelineResponse = wcagGuidelines_2_0_AllVersion.executeFilter(url, wcagVersion,
-						level, document, scanId);
+			List<URI> pages = validatePages(allUrls, level);
+			ScanOptions options = scanOptions(request, level);
 
+			List<GuidelineResponse> responses = new ArrayList<>();
+			List<GuidelineResponse> results = scanPipeline.run(pages, options.isStaticOnly(), (index, uri) -> {
+				String url = allUrls.get(index);
+				FetchedPage page = scanPipeline.politely(uri, () -> fetchPage(uri));
+
+				GuidelineResponse guidelineResponse = pageResultCache.getOrEvaluate(url, wcagVersion, level, page,
+						scanId, options, () -> {
+							WebDriverFactory.primePage(url, page);
+							return wcagGuidelines_2_0_AllVersion.executeFilter(url, wcagVersion, level,
+									page.getDocument(), scanId, options);
+						});
+
+				scanResultWriter.enqueue(guidelineResponse);
 				logger.info("Accessibility check completed successfully for URL: {}", url);
+				return guidelineResponse;
+			});
+			for (GuidelineResponse guidelineResponse : results) {
 				if (guidelineResponse != null) {
 					responses.add(guidelineResponse);
 				}
 			}
 
-			WebDriverFactory.quitDriver();
 			return ResponseEntity.ok(responses);
 
 		} catch (URISyntaxException e) {
@@ -135,6 +185,176 @@ public class AccessibilityCheckerController {
 		}
 	}
 
+	@PostMapping(path = "/check-by-scanid/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<?> streamAccessibilitybyUrl(@RequestBody AccessibilityCheckRequest request) {
+
+		if (request.getScanId() == null) {
+			logger.error("Scan ID is mandatory.");
+			return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body("Scan ID is mandatory.");
+		}
+
+		String scanId = request.getScanId().toString();
+
+		try {
+
+			ScanDataResponse scanDataRequest = accessibilityCheckerService.getAllDetailsByScanId(scanId);
+
+			List<String> allUrls = scanDataRequest.getUrls();
+			if (allUrls == null || allUrls.isEmpty()) {
+				return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN)
+						.body("No URLs found for the provided Scan ID.");
+			}
+
+			List<URI> pages = validatePages(allUrls, scanDataRequest.getLevel());
+			ScanOptions options = scanOptions(request, scanDataRequest.getLevel());
+
+			SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+			Future<?> stream = scanJobService.stream(scanId, scanDataRequest, pages, options, new ScanListener() {
+
+				@Override
+				public void onPage(GuidelineResponse response) throws IOException {
+					emitter.send(SseEmitter.event().name("page").data(response, MediaType.APPLICATION_JSON));
+				}
+
+				@Override
+				public void onPageFailed(String pageUrl, String message) throws IOException {
+					emitter.send(SseEmitter.event().name("page-error")
+							.data(CustomResponse.builder().message(message).status(false).data(pageUrl).build(),
+									MediaType.APPLICATION_JSON));
+				}
+
+				@Override
+				public void onComplete(ScanSummary summary) {
+					try {
+						emitter.send(SseEmitter.event().name("summary").data(summary, MediaType.APPLICATION_JSON));
+						emitter.complete();
+					} catch (IOException e) {
+						emitter.completeWithError(e);
+					}
+				}
+
+				@Override
+				public void onError(Exception e) {
+					emitter.completeWithError(e);
+				}
+			});
+			// A client that disconnects or times out stops its scan
+			emitter.onTimeout(() -> stream.cancel(true));
+			emitter.onError(e -> stream.cancel(true));
+			emitter.onCompletion(() -> stream.cancel(true));
+
+			return ResponseEntity.ok(emitter);
+
+		} catch (URISyntaxException e) {
+			logger.error("Invalid URL syntax.", e);
+			return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body("Invalid URL format.");
+		} catch (MalformedURLException e) {
+			logger.error("Malformed URL.", e);
+			return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN)
+					.body("The URL has an invalid format.");
+		} catch (IllegalArgumentException e) {
+			logger.error("Unsupported URL scheme or invalid Scan ID.", e);
+			return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body(e.getMessage());
+		} catch (RuntimeException e) {
+			logger.error("Unexpected error occurred while starting the stream.", e);
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).contentType(MediaType.TEXT_PLAIN)
+					.body("An internal error occurred.");
+		}
+	}
+
+	@PostMapping("/jobs")
+	public ResponseEntity<?> submitScanJob(@RequestBody AccessibilityCheckRequest request) {
+
+		if (request.getScanId() == null) {
+			logger.error("Scan ID is mandatory.");
+			return ResponseEntity.badRequest().body("Scan ID is mandatory.");
+		}
+
+		String scanId = request.getScanId().toString();
+
+		try {
+
+			ScanDataResponse scanDataRequest = accessibilityCheckerService.getAllDetailsByScanId(scanId);
+
+			List<String> allUrls = scanDataRequest.getUrls();
+			if (allUrls == null || allUrls.isEmpty()) {
+				return ResponseEntity.badRequest().body("No URLs found for the provided Scan ID.");
+			}
+
+			List<URI> pages = validatePages(allUrls, scanDataRequest.getLevel());
+			ScanOptions options = scanOptions(request, scanDataRequest.getLevel());
+
+			ScanJob job = scanJobService.submit(scanId, scanDataRequest, pages, options);
+
+			return ResponseEntity.accepted().location(URI.create("/api/accessibility/jobs/" + job.getId()))
+					.body(CustomResponse.builder().message("Scan job accepted").status(true).data(job).build());
+
+		} catch (URISyntaxException e) {
+			logger.error("Invalid URL syntax.", e);
+			return ResponseEntity.badRequest().body("Invalid URL format.");
+		} catch (MalformedURLException e) {
+			logger.error("Malformed URL.", e);
+			return ResponseEntity.badRequest().body("The URL has an invalid format.");
+		} catch (IllegalArgumentException e) {
+			logger.error("Unsupported URL scheme or invalid Scan ID.", e);
+			return ResponseEntity.badRequest().body(e.getMessage());
+		} catch (RuntimeException e) {
+			logger.error("Unexpected error occurred while submitting the scan job.", e);
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An internal error occurred.");
+		}
+	}
+
+	@GetMapping("/jobs/{jobId}")
+	public ResponseEntity<CustomResponse> getScanJob(@PathVariable String jobId) {
+		return scanJobService.getJob(jobId)
+				.map(job -> ResponseEntity
+						.ok(CustomResponse.builder().message("Data found").status(true).data(job).build()))
+				.orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(CustomResponse.builder()
+						.message("No scan job found for ID: " + jobId).status(false).data(null).build()));
+	}
+
+	@GetMapping("/jobs/{jobId}/results")
+	public ResponseEntity<CustomResponse> getScanJobResults(@PathVariable String jobId) {
+		if (scanJobService.getJob(jobId).isEmpty()) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(CustomResponse.builder()
+					.message("No scan job found for ID: " + jobId).status(false).data(null).build());
+		}
+		List<GuidelineResponse> results = scanJobService.getResults(jobId);
+		return ResponseEntity.ok(CustomResponse.builder().message("Data found").status(true).data(results).build());
+	}
+
+	/**
+	 * Validates every URL of a scan up front so no page is scanned when any of
+	 * them is unusable.
+	 */
+	private List<URI> validatePages(List<String> urls, String level)
+			throws URISyntaxException, MalformedURLException {
+		List<URI> pages = new ArrayList<>(urls.size());
+		for (String url : urls) {
+			if (!isValidInput(url, level)) {
+				logger.error("Invalid input: URL: {}, Level: {}", url, level);
+				throw new IllegalArgumentException("Invalid input. Ensure the URL and WCAG level are correct.");
+			}
+			pages.add(validateAndParseUrl(url));
+		}
+		return pages;
+	}
+
+	/**
+	 * Resolves the criteria a request asks for, so an unknown criterion, or a
+	 * browser-only one in a static scan, is rejected before any page is
+	 * scanned.
+	 */
+	private ScanOptions scanOptions(AccessibilityCheckRequest request, String level) {
+		List<String> criteria = request.getCriteria();
+		if (criteria == null || criteria.isEmpty()) {
+			return ScanOptions.builder().staticOnly(request.isStaticOnly()).build();
+		}
+		return ScanOptions.builder()
+				.criteria(guidelineExecutorService.resolveCriteria(level, criteria, request.isStaticOnly()))
+				.staticOnly(request.isStaticOnly()).build();
+	}
+
 	private boolean isValidInput(String url, String level) {
 		return url != null && !url.trim().isEmpty() && (level.equals("A") || level.equals("AA") || level.equals("AAA"));
 	}
@@ -148,9 +368,9 @@ public class AccessibilityCheckerController {
 		return uri;
 	}
 
-	private Document fetchDocumentFromUrl(URI uri) throws IOException {
+	private FetchedPage fetchPage(URI uri) throws IOException {
 		logger.info("Fetching document from URL: {}", uri);
-		return Jsoup.connect(uri.toString()).get();
+		return pageFetcher.fetch(uri);
 	}
 
 	
@@ -173,10 +393,54 @@ public class AccessibilityCheckerController {
 		}
 	}
 
+	/**
+	 * Full markup of a snippet that was cut down, by the snippetRef of its
+	 * issue.
+	 */
+	@GetMapping("/snippets/{snippetRef}")
+	public ResponseEntity<CustomResponse> getIssueSnippet(@PathVariable String snippetRef) {
+		return issueSnippetRepository.findById(snippetRef)
+				.map(snippet -> ResponseEntity
+						.ok(CustomResponse.builder().message("Data found").status(true).data(snippet).build()))
+				.orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(CustomResponse.builder()
+						.message("No snippet found for ref: " + snippetRef).status(false).data(null).build()));
+	}
+
+	/**
+	 * Downloads every issue of a scan, one row per issue, as NDJSON or CSV.
+	 * Rows are written while the scan results are read, so the size of the
+	 * export does not matter to the server.
+	 */
+	@GetMapping("/export")
+	public void exportScanIssues(@RequestParam String scanId, @RequestParam(required = false) String format,
+			HttpServletResponse response) throws IOException {
+		ScanIssueExporter.Format exportFormat;
+		try {
+			exportFormat = ScanIssueExporter.Format.from(format);
+		} catch (IllegalArgumentException e) {
+			response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+			return;
+		}
+		if (scanId.isBlank() || !scanId.matches("[A-Za-z0-9_-]+")) {
+			response.sendError(HttpStatus.BAD_REQUEST.value(), "Invalid scanId.");
+			return;
+		}
+
+		response.setContentType(exportFormat.getContentType());
+		response.setCharacterEncoding("UTF-8");
+		response.setHeader("Content-Disposition",
+				"attachment; filename=\"scan-" + scanId + "." + exportFormat.getExtension() + "\"");
+		long start = System.nanoTime();
+		long rows = scanIssueExporter.export(scanId, exportFormat, response.getOutputStream());
+		logger.info("Exported {} issues of scan {} as {} in {} ms.", rows, scanId, exportFormat,
+				(System.nanoTime() - start) / 1_000_000);
+	}
+
 	@GetMapping("/fetch")
 	public ResponseEntity<CustomResponse> getScanByField(@RequestParam(required = false) String id,
 			@RequestParam(required = false) String scanId, @RequestParam(required = false) String pageUrl,
-			@RequestParam(required = false) String scanedTime) {
+			@RequestParam(required = false) String scanedTime, @RequestParam(required = false) String view,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
 
 		// Check if id is provided
 		if (id != null && !id.isEmpty()) {
@@ -211,6 +475,43 @@ public class AccessibilityCheckerController {
 			}
 		}
 
+		// Check if one page is asked for with a view: that page's result with the fields
+		// of the view. Without a view, scanId and pageUrl keep returning the whole scan as
+		// a list.
+		if (scanId != null && !scanId.isEmpty() && pageUrl != null && !pageUrl.isEmpty() && view != null) {
+			ScanResultPage.View pageView;
+			try {
+				pageView = ScanResultPage.View.from(view);
+			} catch (IllegalArgumentException e) {
+				return ResponseEntity.badRequest()
+						.body(CustomResponse.builder().message(e.getMessage()).status(false).data(null).build());
+			}
+			return scanResponseService.getPageResult(scanId, pageUrl, pageView)
+					.map(data -> ResponseEntity
+							.ok(CustomResponse.builder().message("Data found").status(true).data(data).build()))
+					.orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(CustomResponse.builder()
+							.message("No data found for pageUrl: " + pageUrl + " in scanId: " + scanId).status(false)
+							.data(null).build()));
+		}
+
+		// Check if a slice of the scan is requested
+		if (scanId != null && !scanId.isEmpty() && (view != null || cursor != null || size != null)) {
+			ScanResultPage resultPage;
+			try {
+				resultPage = scanResponseService.getPageByScanId(scanId, ScanResultPage.View.from(view), cursor, size);
+			} catch (IllegalArgumentException e) {
+				return ResponseEntity.badRequest()
+						.body(CustomResponse.builder().message(e.getMessage()).status(false).data(null).build());
+			}
+			if (!resultPage.getResults().isEmpty() || cursor != null) {
+				return ResponseEntity
+						.ok(CustomResponse.builder().message("Data found").status(true).data(resultPage).build());
+			} else {
+				return ResponseEntity.status(HttpStatus.NOT_FOUND).body(CustomResponse.builder()
+						.message("No data found for scanId: " + scanId).status(false).data(null).build());
+			}
+		}
+
 		// Check if scanId is provided
 		if (scanId != null && !scanId.isEmpty()) {
 			List<GuidelineResponse> scanData = scanResponseService.getByScanId(scanId);
@@ -9,6 +9,8 @@ import org.openqa.selenium.WebElement;
 
 import com.brahos.accessibilitychecker.model.GuidelineData;
 import com.brahos.accessibilitychecker.model.IssueDetails;
+import com.brahos.accessibilitychecker.utility.FocusWalk;
+import com.brahos.accessibilitychecker.utility.StyleSnapshot.ElementStyle;
 
 public interface IGuidelineDataTransformer {
 
@@ -25,6 +27,22 @@ public interface IGuidelineDataTransformer {
 	public void addIssue(List<IssueDetails> issueList, WebElement webElement, String tempImg, String issueDescription,
 			String level);
 
+	public void addIssue(List<IssueDetails> issueList, ElementStyle element, String snippet, String issueDescription,
+			String level);
+
+	public void addIssue(List<IssueDetails> issueList, FocusWalk.Target element, String snippet,
+			String issueDescription, String level);
+
+	public void addIssue(List<IssueDetails> issueList, FocusWalk.Container element, String snippet,
+			String issueDescription, String level);
+
+	/**
+	 * Adds an issue for an element of a rendered DOM snapshot, with the
+	 * selector built the same way as for a live WebElement.
+	 */
+	public void addRenderedIssue(List<IssueDetails> issueList, Element element, String snippet,
+			String issueDescription, String level);
+
 	public void addIssueSelenium(List<IssueDetails> issueList, List<WebElement> landmarks, String tempImg,
 			String issueDescription, String level, WebElement webElement, WebDriver driver);
 
@@ -13,6 +13,9 @@ import org.springframework.stereotype.Service;
 import com.brahos.accessibilitychecker.helper.service.IGuidelineDataTransformer;
 import com.brahos.accessibilitychecker.model.GuidelineData;
 import com.brahos.accessibilitychecker.model.IssueDetails;
+import com.brahos.accessibilitychecker.utility.ElementSelector;
+import com.brahos.accessibilitychecker.utility.FocusWalk;
+import com.brahos.accessibilitychecker.utility.StyleSnapshot.ElementStyle;
 
 @Service
 public class IGuidelineDataTransformerImpl implements IGuidelineDataTransformer {
@@ -211,21 +214,76 @@ public class IGuidelineDataTransformerImpl implements IGuidelineDataTransformer
 		issueList.add(issue);
 	}
 
+	@Override
+	public void addIssue(List<IssueDetails> issueList, ElementStyle element, String snippet, String issueDescription,
+			String fix) {
+		if (element == null || issueDescription == null || issueDescription.isEmpty()) {
+			throw new IllegalArgumentException("Element or issue description cannot be null or empty");
+		}
+
+		IssueDetails issue = new IssueDetails();
+		issue.setTitle(issueDescription);
+		issue.setTagName(element.getTagName());
+		issue.setSnippet(snippet);
+		issue.setSelector(element.toSelector());
+		issue.setFixes(fix);
+
+		issueList.add(issue);
+	}
+
+	@Override
+	public void addIssue(List<IssueDetails> issueList, FocusWalk.Target element, String snippet,
+			String issueDescription, String fix) {
+		if (element == null || issueDescription == null || issueDescription.isEmpty()) {
+			throw new IllegalArgumentException("Element or issue description cannot be null or empty");
+		}
+		addFocusIssue(issueList, element.getTagName(), element.toSelector(), snippet, issueDescription, fix);
+	}
+
+	@Override
+	public void addIssue(List<IssueDetails> issueList, FocusWalk.Container element, String snippet,
+			String issueDescription, String fix) {
+		if (element == null || issueDescription == null || issueDescription.isEmpty()) {
+			throw new IllegalArgumentException("Element or issue description cannot be null or empty");
+		}
+		addFocusIssue(issueList, element.getTagName(), element.toSelector(), snippet, issueDescription, fix);
+	}
+
+	private void addFocusIssue(List<IssueDetails> issueList, String tagName, String selector, String snippet,
+			String issueDescription, String fix) {
+		IssueDetails issue = new IssueDetails();
+		issue.setTitle(issueDescription);
+		issue.setTagName(tagName);
+		issue.setSnippet(snippet);
+		issue.setSelector(selector);
+		issue.setFixes(fix);
+
+		issueList.add(issue);
+	}
+
+	@Override
+	public void addRenderedIssue(List<IssueDetails> issueList, Element element, String snippet,
+			String issueDescription, String fix) {
+		if (element == null || issueDescription == null || issueDescription.isEmpty()) {
+			throw new IllegalArgumentException("Element or issue description cannot be null or empty");
+		}
+
+		IssueDetails issue = new IssueDetails();
+		issue.setTitle(issueDescription);
+		issue.setTagName(element.tagName());
+		issue.setSnippet(snippet);
+		issue.setSelector(ElementSelector.of(element.tagName(), element.id(), element.className()));
+		issue.setFixes(fix);
+
+		issueList.add(issue);
+	}
+
 	/**
 	 * Helper method to generate a unique CSS selector for a WebElement. This method
 	 * can be expanded to generate more accurate selectors.
 	 */
 	private String generateCssSelector(WebElement element) {
-// Try to build a more specific selector (you can add custom logic here)
-		StringBuilder selector = new StringBuilder(element.getTagName());
-
-		if (element.getAttribute("id") != null && !element.getAttribute("id").isEmpty()) {
-			selector.append("#").append(element.getAttribute("id"));
-		} else if (element.getAttribute("class") != null && !element.getAttribute("class").isEmpty()) {
-			selector.append(".").append(element.getAttribute("class").replace(" ", "."));
-		}
-
-		return selector.toString();
+		return ElementSelector.of(element.getTagName(), element.getAttribute("id"), element.getAttribute("class"));
 	}
 
 //	@Override
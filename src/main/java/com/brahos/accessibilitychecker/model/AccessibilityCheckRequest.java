@@ -1,5 +1,7 @@
 package com.brahos.accessibilitychecker.model;
 
+import java.util.List;
+
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.Data;
@@ -14,4 +16,16 @@ public class AccessibilityCheckRequest {
 	private String level;
 
 	private Object scanId;
+
+	/**
+	 * Optional WCAG success criteria to run instead of the whole level, given
+	 * as numbers ("1.4.3") or guideline titles ("1.4.3 Contrast (Minimum)").
+	 */
+	private List<String> criteria;
+
+	/**
+	 * Runs only the rules that read the fetched HTML, without a browser.
+	 * Browser-only criteria are rejected in this mode.
+	 */
+	private boolean staticOnly;
 }
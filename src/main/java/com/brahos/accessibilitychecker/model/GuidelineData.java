@@ -23,4 +23,11 @@ public class GuidelineData {
 	private Integer issueCount;
 	private Integer successCount;
 
+	/**
+	 * Set when the guideline could not finish (time budget exceeded or
+	 * evaluation failed); its issue and success counts are then meaningless.
+	 */
+	private boolean incomplete;
+	private String incompleteReason;
+
 }
@@ -1,16 +1,73 @@
 package com.brahos.accessibilitychecker.model;
 
+import java.util.Set;
 import java.util.function.BiFunction;
 import org.jsoup.nodes.Document;
-import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 
+/**
+ * A registered guideline rule: the function that evaluates it plus the
+ * metadata the executor schedules it by.
+ */
 @Getter
-@AllArgsConstructor
+@Builder
 public class GuidelineHandler {
+
+	/**
+	 * What evaluating the rule costs, cheapest first. The executor submits
+	 * cheaper rules first.
+	 */
+	public enum Cost {
+		/** Reads only the Jsoup document; never touches a browser. */
+		STATIC,
+		/** Reads a snapshot captured once per page in the browser. */
+		DOM_SNAPSHOT,
+		/** Queries the live page element by element. */
+		LIVE_BROWSER,
+		/**
+		 * Reads the focus walk, which drives the keyboard through the page under
+		 * the exclusive lock and forces a reload; scheduled with the rules that
+		 * mutate the page.
+		 */
+		PAGE_INTERACTION,
+		/** Downloads or analyses media referenced by the page. */
+		NETWORK_MEDIA
+	}
+
+	/**
+	 * Per-page data prepared once and shared by every rule that declares it.
+	 * Computed styles are not one of them: each contrast or style rule
+	 * captures only the elements it checks.
+	 */
+	public enum Dependency {
+		RENDERED_DOM, FOCUS_WALK
+	}
+
 	private final String name;
+	/** WCAG success criterion number, e.g. "1.1.1". */
+	private final String criterion;
+	/** Guideline title as reported in the rule's response. */
+	private final String guideline;
+	private final String level;
+	private final Cost cost;
+	@Builder.Default
+	private final Set<Dependency> dependencies = Set.of();
+	private final boolean mutatesPage;
+	/**
+	 * DOM-only stand-in for a browser rule of the same criterion, run only in
+	 * static scans.
+	 */
+	private final boolean staticVariant;
 	private final BiFunction<Document, String, GuidelineResponse> processor;
-	private final boolean requiresUrl;
+
+	public boolean isRequiresUrl() {
+		return cost != Cost.STATIC;
+	}
+
+	public boolean dependsOn(Dependency dependency) {
+		return dependencies.contains(dependency);
+	}
 
 	public GuidelineResponse process(Document document, String url) {
 		return processor.apply(document, url);
@@ -5,7 +5,11 @@ import java.util.Collections;
 import java.util.List;
 
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -23,17 +27,29 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "scan_responses")
+@CompoundIndexes({
+		@CompoundIndex(name = "scanId_scanedTime", def = "{'scanId': 1, 'scanedTime': -1}"),
+		@CompoundIndex(name = "scanId_id", def = "{'scanId': 1, '_id': 1}"),
+		@CompoundIndex(name = "pageUrl_scanedTime", def = "{'pageUrl': 1, 'scanedTime': -1}") })
 public class GuidelineResponse {
 
+	@Id
+	private String id;
+
 	private boolean status;
 	private String message;
 
 	@Field
 	private String scanId;
 
+	@Field
+	@Indexed(name = "jobId", sparse = true)
+	private String jobId;
+
 	private String pageUrl;
 
 	@Field
+	@Indexed(name = "scanedTime")
 	private String scanedTime;
 
 	@CreatedDate
@@ -56,7 +72,11 @@ public class GuidelineResponse {
 	@Builder.Default
 	private Integer guidelineSuccessCount = 0;
 
+	/** Guidelines that could not finish; they count neither as issues nor as successes. */
+	@Builder.Default
+	private Integer guidelineIncompleteCount = 0;
+
 	public List<GuidelineData> getData() {
-		return Collections.unmodifiableList(data);
+		return data != null ? Collections.unmodifiableList(data) : Collections.emptyList();
 	}
 }
@@ -20,4 +20,14 @@ public class IssueDetails {
 	public String selector;
 	public String fixes;
 
+	/**
+	 * Digest of the full markup in issue_snippets when the snippet was cut
+	 * down and the full markup kept; null otherwise.
+	 */
+	public String snippetRef;
+
+	public IssueDetails(String title, String tagName, String snippet, String selector, String fixes) {
+		this(title, tagName, snippet, selector, fixes, null);
+	}
+
 }
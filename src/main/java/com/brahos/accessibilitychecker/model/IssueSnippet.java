@@ -0,0 +1,29 @@
+package com.brahos.accessibilitychecker.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Full markup of an issue snippet, stored once per distinct content and
+ * referenced from IssueDetails.snippetRef.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "issue_snippets")
+public class IssueSnippet {
+
+	/** SHA-256 of the markup. */
+	@Id
+	private String digest;
+
+	private String html;
+
+	private String createdAt;
+}
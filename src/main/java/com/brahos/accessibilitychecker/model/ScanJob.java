@@ -0,0 +1,54 @@
+package com.brahos.accessibilitychecker.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of an asynchronous scan. Page results are stored in scan_responses
+ * as they complete, tagged with the job id. The state of each page lives in
+ * scan_job_pages, so the job document stays small however many pages it has.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "scan_jobs")
+public class ScanJob {
+
+	public enum Status {
+		QUEUED, RUNNING, COMPLETED, FAILED
+	}
+
+	@Id
+	private String id;
+
+	private String scanId;
+	private String version;
+	private String level;
+	private List<String> criteria;
+	private boolean staticOnly;
+
+	private Status status;
+	private String message;
+
+	private int totalPages;
+	private int pagesDone;
+	private int pagesFailed;
+
+	/** Loaded from scan_job_pages in page order; never stored with the job. */
+	@Transient
+	@Builder.Default
+	private List<ScanJobPage> pages = new ArrayList<>();
+
+	private String createdAt;
+	private String updatedAt;
+}
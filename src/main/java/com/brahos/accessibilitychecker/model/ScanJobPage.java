@@ -0,0 +1,44 @@
+package com.brahos.accessibilitychecker.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of a single page within a {@link ScanJob}. Pages are stored one
+ * document each, keyed by job id and position, so a page changing state
+ * writes only that page.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "scan_job_pages")
+public class ScanJobPage {
+
+	public enum State {
+		PENDING, RUNNING, DONE, FAILED
+	}
+
+	@Id
+	private String id;
+
+	private String jobId;
+
+	/** Position of the page in the submitted URL list. */
+	private int index;
+
+	private String pageUrl;
+
+	private State state;
+
+	private Integer issueCount;
+
+	private String error;
+
+	public ScanJobPage(String jobId, int index, String pageUrl) {
+		this(null, jobId, index, pageUrl, State.PENDING, null, null);
+	}
+}
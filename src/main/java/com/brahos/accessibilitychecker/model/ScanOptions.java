@@ -0,0 +1,34 @@
+package com.brahos.accessibilitychecker.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-scan choices that narrow what is evaluated on each page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScanOptions {
+
+	/**
+	 * WCAG success criteria to evaluate, as criterion numbers. Null or empty
+	 * runs every guideline of the scan's level.
+	 */
+	private List<String> criteria;
+
+	/**
+	 * Runs only the rules that read the fetched document, without starting a
+	 * browser for any page.
+	 */
+	private boolean staticOnly;
+
+	public boolean hasCriteria() {
+		return criteria != null && !criteria.isEmpty();
+	}
+}
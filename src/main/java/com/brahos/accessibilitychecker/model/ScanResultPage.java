@@ -0,0 +1,56 @@
+package com.brahos.accessibilitychecker.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One slice of a scan's page results, in insertion order. Pass nextCursor
+ * back as the cursor to read the following slice.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScanResultPage {
+
+	/**
+	 * How much of each page result is read from the store.
+	 */
+	public enum View {
+		/** Page totals only, without guideline data. */
+		SUMMARY,
+		/** Issue and success counts per guideline, without issue details. */
+		GUIDELINES,
+		/** Every guideline with its issue details. */
+		FULL;
+
+		public static View from(String value) {
+			if (value == null || value.isBlank()) {
+				return SUMMARY;
+			}
+			try {
+				return valueOf(value.trim().toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("Unknown view '" + value + "'; use summary, guidelines or full.");
+			}
+		}
+	}
+
+	private String scanId;
+	private View view;
+	private int size;
+
+	@Builder.Default
+	private List<GuidelineResponse> results = new ArrayList<>();
+
+	private boolean hasNext;
+
+	/** Id of the last result in this slice; null on the last slice. */
+	private String nextCursor;
+}
@@ -0,0 +1,24 @@
+package com.brahos.accessibilitychecker.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Totals sent once a streamed scan has finished every page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScanSummary {
+
+	private String scanId;
+	private int totalPages;
+	private int pagesScanned;
+	private int pagesFailed;
+	private int guidelineIssueCount;
+	private int guidelineSuccessCount;
+	private int guidelineIncompleteCount;
+}
@@ -0,0 +1,38 @@
+package com.brahos.accessibilitychecker.model;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Last fetched copy of a page with the validators its server sent, so the
+ * next fetch can be a conditional GET and a 304 can be answered from here.
+ * Entries expire page.store.ttl-days after they were stored.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "page_store")
+public class StoredPage {
+
+	/** Normalized page URL. */
+	@Id
+	private String url;
+
+	private String etag;
+	private String lastModified;
+
+	/** SHA-256 of the body, the content part of the page result cache key. */
+	private String digest;
+	private String body;
+
+	/** When the body was stored; a date, so the TTL index on it applies. */
+	private Instant fetchedAt;
+}
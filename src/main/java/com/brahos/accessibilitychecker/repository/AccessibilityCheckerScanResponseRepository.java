@@ -1,8 +1,11 @@
 package com.brahos.accessibilitychecker.repository;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.bson.types.ObjectId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
@@ -14,9 +17,37 @@ public interface AccessibilityCheckerScanResponseRepository extends MongoReposit
 
 	List<GuidelineResponse> findByPageUrl(String pageUrl);
 
+	List<GuidelineResponse> findByJobId(String jobId);
+
 	public abstract List<GuidelineResponse> findByScanedTime(String scanedTime);
 
 	@Query("{'scanedTime': ?0, 'scanId': ?1}")
 	List<GuidelineResponse> findBySomeParent_ScanedTime_ScanId(String scanedTime, String scanId);
 
+	/*
+	 * Keyset slices of one scan: results with an id after the cursor, sorted
+	 * by id through the scanId_id index. The projections keep the guideline
+	 * data, and with it the issue snippets, on the server.
+	 */
+
+	@Query(fields = "{'data': 0}")
+	Slice<GuidelineResponse> findSummaryByScanIdAndIdGreaterThan(String scanId, String cursor, Pageable pageable);
+
+	@Query(fields = "{'data.issueDetails': 0}")
+	Slice<GuidelineResponse> findGuidelinesByScanIdAndIdGreaterThan(String scanId, String cursor, Pageable pageable);
+
+	Slice<GuidelineResponse> findByScanIdAndIdGreaterThan(String scanId, String cursor, Pageable pageable);
+
+	/*
+	 * One page of a scan, with the same projections as the slices above.
+	 */
+
+	@Query(fields = "{'data': 0}")
+	Optional<GuidelineResponse> findFirstSummaryByScanIdAndPageUrl(String scanId, String pageUrl);
+
+	@Query(fields = "{'data.issueDetails': 0}")
+	Optional<GuidelineResponse> findFirstGuidelinesByScanIdAndPageUrl(String scanId, String pageUrl);
+
+	Optional<GuidelineResponse> findFirstByScanIdAndPageUrl(String scanId, String pageUrl);
+
 }
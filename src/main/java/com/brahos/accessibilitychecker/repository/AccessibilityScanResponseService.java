@@ -8,6 +8,7 @@ import org.bson.types.ObjectId;
 import org.springframework.stereotype.Component;
 
 import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.brahos.accessibilitychecker.model.ScanResultPage;
 
 @Component
 public interface AccessibilityScanResponseService {
@@ -20,4 +21,17 @@ public interface AccessibilityScanResponseService {
 
 	List<GuidelineResponse> getByScannedTime(String scannedTime);
 
+	/**
+	 * Reads one slice of a scan's page results.
+	 *
+	 * @param cursor nextCursor of the previous slice, or null for the first
+	 * @param size   results per slice, or null for the default
+	 */
+	ScanResultPage getPageByScanId(String scanId, ScanResultPage.View view, String cursor, Integer size);
+
+	/**
+	 * Reads the result of one page of a scan, with the fields of the view.
+	 */
+	Optional<GuidelineResponse> getPageResult(String scanId, String pageUrl, ScanResultPage.View view);
+
 }
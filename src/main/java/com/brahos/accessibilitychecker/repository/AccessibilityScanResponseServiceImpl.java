@@ -5,16 +5,31 @@ import java.util.Optional;
 
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.brahos.accessibilitychecker.model.ScanResultPage;
 
 @Service
 public class AccessibilityScanResponseServiceImpl implements AccessibilityScanResponseService {
 
+	/** Lower than every generated id, so the first slice starts at the beginning. */
+	private static final String FIRST_CURSOR = "000000000000000000000000";
+
 	@Autowired
 	AccessibilityCheckerScanResponseRepository scanResponseRepository;
 
+	@Value("${scan.fetch.page-size:50}")
+	private int defaultPageSize;
+
+	@Value("${scan.fetch.max-page-size:500}")
+	private int maxPageSize;
+
 	@Override
 	public Optional<GuidelineResponse> getScanResponeById(ObjectId id) {
 		return scanResponseRepository.findById(id);
@@ -34,5 +49,34 @@ public class AccessibilityScanResponseServiceImpl implements AccessibilityScanRe
 
 	}
 
+	@Override
+	public ScanResultPage getPageByScanId(String scanId, ScanResultPage.View view, String cursor, Integer size) {
+		if (cursor != null && !ObjectId.isValid(cursor)) {
+			throw new IllegalArgumentException("Invalid cursor: " + cursor);
+		}
+		int pageSize = Math.min(size != null && size > 0 ? size : defaultPageSize, maxPageSize);
+		String after = cursor != null ? cursor : FIRST_CURSOR;
+		Pageable pageable = PageRequest.of(0, pageSize, Sort.by("id"));
+
+		Slice<GuidelineResponse> slice = switch (view) {
+		case SUMMARY -> scanResponseRepository.findSummaryByScanIdAndIdGreaterThan(scanId, after, pageable);
+		case GUIDELINES -> scanResponseRepository.findGuidelinesByScanIdAndIdGreaterThan(scanId, after, pageable);
+		case FULL -> scanResponseRepository.findByScanIdAndIdGreaterThan(scanId, after, pageable);
+		};
+
+		List<GuidelineResponse> results = slice.getContent();
+		String nextCursor = slice.hasNext() && !results.isEmpty() ? results.get(results.size() - 1).getId() : null;
+		return ScanResultPage.builder().scanId(scanId).view(view).size(pageSize).results(results)
+				.hasNext(nextCursor != null).nextCursor(nextCursor).build();
+	}
+
+	@Override
+	public Optional<GuidelineResponse> getPageResult(String scanId, String pageUrl, ScanResultPage.View view) {
+		return switch (view) {
+		case SUMMARY -> scanResponseRepository.findFirstSummaryByScanIdAndPageUrl(scanId, pageUrl);
+		case GUIDELINES -> scanResponseRepository.findFirstGuidelinesByScanIdAndPageUrl(scanId, pageUrl);
+		case FULL -> scanResponseRepository.findFirstByScanIdAndPageUrl(scanId, pageUrl);
+		};
+	}
 
 }
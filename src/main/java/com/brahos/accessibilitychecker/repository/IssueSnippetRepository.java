@@ -0,0 +1,9 @@
+package com.brahos.accessibilitychecker.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.brahos.accessibilitychecker.model.IssueSnippet;
+
+public interface IssueSnippetRepository extends MongoRepository<IssueSnippet, String> {
+
+}
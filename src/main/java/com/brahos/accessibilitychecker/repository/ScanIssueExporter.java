@@ -0,0 +1,212 @@
+package com.brahos.accessibilitychecker.repository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.brahos.accessibilitychecker.model.GuidelineData;
+import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.brahos.accessibilitychecker.model.IssueDetails;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes every issue of a scan as one flat row per issue, reading
+ * scan_responses through a cursor. Only one page result is held at a time and
+ * rows go straight to the output, so a slow client slows the cursor down
+ * instead of the export piling up in memory.
+ */
+@Component
+public class ScanIssueExporter {
+
+	public enum Format {
+		NDJSON("application/x-ndjson", "ndjson"), CSV("text/csv", "csv");
+
+		private final String contentType;
+		private final String extension;
+
+		Format(String contentType, String extension) {
+			this.contentType = contentType;
+			this.extension = extension;
+		}
+
+		public String getContentType() {
+			return contentType;
+		}
+
+		public String getExtension() {
+			return extension;
+		}
+
+		public static Format from(String value) {
+			if (value == null || value.isBlank()) {
+				return NDJSON;
+			}
+			try {
+				return valueOf(value.trim().toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("Unknown format '" + value + "'; use ndjson or csv.");
+			}
+		}
+	}
+
+	private static final String[] COLUMNS = { "scanId", "pageUrl", "scanedTime", "guideline", "level",
+			"wcagVersion", "title", "tagName", "selector", "snippet", "snippetRef", "fixes" };
+
+	/** First characters that make a spreadsheet evaluate a CSV cell as a formula. */
+	private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+	/** Page results fetched from the server per cursor round-trip. */
+	@Value("${scan.export.cursor-batch-size:50}")
+	private int cursorBatchSize;
+
+	private final MongoTemplate mongoTemplate;
+	private final ObjectMapper objectMapper;
+
+	public ScanIssueExporter(MongoTemplate mongoTemplate, ObjectMapper objectMapper) {
+		this.mongoTemplate = mongoTemplate;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Writes the issues of the scan to the stream; the stream is flushed after
+	 * each page result but not closed.
+	 *
+	 * @return The number of issue rows written
+	 */
+	public long export(String scanId, Format format, OutputStream out) throws IOException {
+		Query query = new Query(Criteria.where("scanId").is(scanId)).with(Sort.by("id"))
+				.cursorBatchSize(cursorBatchSize);
+		query.fields().include("scanId", "pageUrl", "scanedTime", "data");
+
+		try (Stream<GuidelineResponse> results = mongoTemplate.stream(query, GuidelineResponse.class);
+				RowWriter rows = format == Format.CSV ? new CsvRowWriter(out) : new JsonRowWriter(out)) {
+			long count = 0;
+			Iterator<GuidelineResponse> cursor = results.iterator();
+			while (cursor.hasNext()) {
+				GuidelineResponse response = cursor.next();
+				for (GuidelineData guideline : response.getData()) {
+					if (guideline.getIssueDetails() == null) {
+						continue;
+					}
+					for (IssueDetails issue : guideline.getIssueDetails()) {
+						rows.write(new String[] { response.getScanId(), response.getPageUrl(),
+								response.getScanedTime(), guideline.getGuideline(), guideline.getLevel(),
+								guideline.getWcagVersion(), issue.getTitle(), issue.getTagName(),
+								issue.getSelector(), issue.getSnippet(), issue.getSnippetRef(), issue.getFixes() });
+						count++;
+					}
+				}
+				rows.flush();
+			}
+			return count;
+		}
+	}
+
+	private interface RowWriter extends AutoCloseable {
+
+		void write(String[] values) throws IOException;
+
+		void flush() throws IOException;
+
+		@Override
+		void close() throws IOException;
+	}
+
+	/** One JSON object per line, keyed by column name. */
+	private final class JsonRowWriter implements RowWriter {
+
+		private final JsonGenerator generator;
+
+		JsonRowWriter(OutputStream out) throws IOException {
+			generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		}
+
+		@Override
+		public void write(String[] values) throws IOException {
+			generator.writeStartObject();
+			for (int i = 0; i < COLUMNS.length; i++) {
+				generator.writeStringField(COLUMNS[i], values[i]);
+			}
+			generator.writeEndObject();
+			generator.writeRaw('\n');
+		}
+
+		@Override
+		public void flush() throws IOException {
+			generator.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			generator.close();
+		}
+	}
+
+	/**
+	 * One CSV cell. Snippets and URLs come from scanned pages, so a value a
+	 * spreadsheet would read as a formula (starting with =, +, -, @, tab or CR)
+	 * is prefixed with an apostrophe; the cell is then quoted when it holds a
+	 * comma, quote or line break.
+	 */
+	static String csvField(String value) {
+		if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+			value = "'" + value;
+		}
+		boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0
+				|| value.indexOf('\r') >= 0;
+		return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+	}
+
+	/** RFC 4180 rows with a header line. */
+	private static final class CsvRowWriter implements RowWriter {
+
+		private final Writer writer;
+
+		CsvRowWriter(OutputStream out) throws IOException {
+			writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+			write(COLUMNS);
+		}
+
+		@Override
+		public void write(String[] values) throws IOException {
+			for (int i = 0; i < values.length; i++) {
+				if (i > 0) {
+					writer.write(',');
+				}
+				writeField(values[i]);
+			}
+			writer.write("\r\n");
+		}
+
+		private void writeField(String value) throws IOException {
+			if (value != null) {
+				writer.write(csvField(value));
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			writer.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			writer.flush();
+		}
+	}
+}
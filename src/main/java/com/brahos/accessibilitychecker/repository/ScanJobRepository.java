@@ -0,0 +1,14 @@
+package com.brahos.accessibilitychecker.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.brahos.accessibilitychecker.model.ScanJob;
+
+public interface ScanJobRepository extends MongoRepository<ScanJob, String> {
+
+	List<ScanJob> findByStatusIn(Collection<ScanJob.Status> statuses);
+
+}
@@ -0,0 +1,166 @@
+package com.brahos.accessibilitychecker.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import com.brahos.accessibilitychecker.model.GuidelineResponse;
+
+/**
+ * Creates the indexes declared on {@link GuidelineResponse} at startup and
+ * verifies that every query of {@link AccessibilityCheckerScanResponseRepository}
+ * is planned as an index scan without an in-memory sort, so the /fetch
+ * lookups do not degrade as scan history grows. Startup fails on a problem
+ * unless scan.indexes.fail-on-error is turned off, as the dev profile does.
+ * The list below is the startup smoke check; ScanResponseQueryPlanTest
+ * explains the queries the repository actually sends.
+ */
+@Component
+public class ScanResponseIndexes {
+
+	private static final Logger logger = LoggerFactory.getLogger(ScanResponseIndexes.class);
+
+	/** Stages that mean a query reads the whole collection or sorts in memory. */
+	static final List<String> UNINDEXED_STAGES = List.of("COLLSCAN", "SORT");
+
+	/**
+	 * Filter and sort of each repository query and of the issue export, as
+	 * they are sent to the server.
+	 */
+	private static final Map<String, Document[]> QUERIES = new LinkedHashMap<>();
+
+	static {
+		Document byId = new Document("_id", 1);
+		Document afterCursor = new Document("scanId", "").append("_id", new Document("$gt", new ObjectId()));
+		QUERIES.put("findByScanId", query(new Document("scanId", ""), null));
+		QUERIES.put("findByPageUrl", query(new Document("pageUrl", ""), null));
+		QUERIES.put("findByJobId", query(new Document("jobId", ""), null));
+		QUERIES.put("findByScanedTime", query(new Document("scanedTime", ""), null));
+		QUERIES.put("findBySomeParent_ScanedTime_ScanId",
+				query(new Document("scanedTime", "").append("scanId", ""), null));
+		QUERIES.put("findSummaryByScanIdAndIdGreaterThan", query(afterCursor, byId));
+		QUERIES.put("findGuidelinesByScanIdAndIdGreaterThan", query(afterCursor, byId));
+		QUERIES.put("findByScanIdAndIdGreaterThan", query(afterCursor, byId));
+		Document onePage = new Document("scanId", "").append("pageUrl", "");
+		QUERIES.put("findFirstSummaryByScanIdAndPageUrl", query(onePage, null));
+		QUERIES.put("findFirstGuidelinesByScanIdAndPageUrl", query(onePage, null));
+		QUERIES.put("findFirstByScanIdAndPageUrl", query(onePage, null));
+		QUERIES.put("ScanIssueExporter.export", query(new Document("scanId", ""), byId));
+	}
+
+	@Value("${scan.indexes.verify:true}")
+	private boolean verify;
+
+	@Value("${scan.indexes.fail-on-error:true}")
+	private boolean failOnError;
+
+	private final MongoTemplate mongoTemplate;
+	private final MongoMappingContext mappingContext;
+
+	public ScanResponseIndexes(MongoTemplate mongoTemplate, MongoMappingContext mappingContext) {
+		this.mongoTemplate = mongoTemplate;
+		this.mappingContext = mappingContext;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureIndexes() {
+		if (!verify) {
+			return;
+		}
+		int unindexed = 0;
+		try {
+			IndexOperations indexOps = mongoTemplate.indexOps(GuidelineResponse.class);
+			MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+			for (IndexDefinition index : resolver.resolveIndexFor(GuidelineResponse.class)) {
+				indexOps.ensureIndex(index);
+			}
+			Set<String> present = indexOps.getIndexInfo().stream().map(IndexInfo::getName)
+					.collect(Collectors.toSet());
+			logger.info("scan_responses indexes: {}.", present);
+
+			for (Map.Entry<String, Document[]> query : QUERIES.entrySet()) {
+				Document plan = winningPlan(query.getValue()[0], query.getValue()[1]);
+				List<String> stages = unindexedStages(plan);
+				if (!stages.isEmpty()) {
+					unindexed++;
+					logger.error("Query {} on scan_responses is planned with {}.", query.getKey(), stages);
+				} else {
+					logger.debug("Query {} planned as {}.", query.getKey(), plan.toJson());
+				}
+			}
+		} catch (RuntimeException e) {
+			if (failOnError) {
+				throw new IllegalStateException("Could not verify scan_responses indexes.", e);
+			}
+			logger.warn("Could not verify scan_responses indexes: {}", e.getMessage());
+			return;
+		}
+		if (unindexed > 0 && failOnError) {
+			throw new IllegalStateException(unindexed + " scan_responses queries are not index-backed.");
+		}
+	}
+
+	/**
+	 * The winning plan of the query, from the query planner without executing
+	 * it.
+	 */
+	private Document winningPlan(Document filter, Document sort) {
+		Document find = new Document("find", mongoTemplate.getCollectionName(GuidelineResponse.class))
+				.append("filter", filter);
+		if (sort != null) {
+			find.append("sort", sort);
+		}
+		return winningPlan(mongoTemplate.getDb()
+				.runCommand(new Document("explain", find).append("verbosity", "queryPlanner")));
+	}
+
+	static Document winningPlan(Document explain) {
+		Document planner = explain.get("queryPlanner", Document.class);
+		Document winningPlan = planner != null ? planner.get("winningPlan", Document.class) : null;
+		return winningPlan != null ? winningPlan : new Document();
+	}
+
+	/**
+	 * Collection scans and in-memory sorts anywhere in the plan. Newer servers
+	 * nest the classic plan under queryPlan.
+	 */
+	static List<String> unindexedStages(Document plan) {
+		List<String> found = new ArrayList<>();
+		collectStages(plan, found);
+		return found;
+	}
+
+	private static void collectStages(Object node, List<String> found) {
+		if (node instanceof Document document) {
+			Object stage = document.get("stage");
+			if (stage instanceof String name && UNINDEXED_STAGES.contains(name)) {
+				found.add(name);
+			}
+			document.values().forEach(value -> collectStages(value, found));
+		} else if (node instanceof List<?> list) {
+			list.forEach(value -> collectStages(value, found));
+		}
+	}
+
+	private static Document[] query(Document filter, Document sort) {
+		return new Document[] { filter, sort };
+	}
+}
@@ -0,0 +1,216 @@
+package com.brahos.accessibilitychecker.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.mongodb.bulk.BulkWriteError;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Persists page results to scan_responses off the scanning threads. Results
+ * are buffered and written with one unordered bulk insert per batch, when the
+ * batch is full or the flush interval elapses, so a large scan costs a few
+ * round-trips instead of one insert per page. Results that fail to insert are
+ * retried; those that still fail are logged and, for job results, reported to
+ * the job through {@link #flush(String)} so it does not claim pages it never
+ * stored.
+ */
+@Component
+public class ScanResultWriter {
+
+	private static final Logger logger = LoggerFactory.getLogger(ScanResultWriter.class);
+
+	@Value("${scan.persist.batch-size:200}")
+	private int batchSize;
+
+	@Value("${scan.persist.flush-interval-ms:1000}")
+	private long flushIntervalMillis;
+
+	/** Results buffered before writers have to wait for a flush. */
+	@Value("${scan.persist.queue-capacity:10000}")
+	private int queueCapacity;
+
+	/** Further attempts for results whose insert failed. */
+	@Value("${scan.persist.retries:2}")
+	private int retries;
+
+	@Value("${scan.persist.retry-delay-ms:500}")
+	private long retryDelayMillis;
+
+	/** Mongo's duplicate key error: a retried result that was stored after all. */
+	private static final int DUPLICATE_KEY = 11000;
+
+	private final MongoTemplate mongoTemplate;
+	private final Object flushLock = new Object();
+
+	/** Page URLs of job results that could not be stored, by job id. */
+	private final Map<String, List<String>> unsaved = new ConcurrentHashMap<>();
+
+	private BlockingQueue<GuidelineResponse> queue;
+	private ScheduledExecutorService flusher;
+
+	public ScanResultWriter(MongoTemplate mongoTemplate) {
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	@PostConstruct
+	public void init() {
+		queue = new LinkedBlockingQueue<>(Math.max(batchSize, queueCapacity));
+		flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "scan-result-writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+				TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		flusher.shutdownNow();
+		flush();
+	}
+
+	/**
+	 * Queues a result for the next batch. A full batch is flushed straight
+	 * away on the background thread; a full queue makes the caller wait for
+	 * the flush instead of buffering without bound. The result is given the
+	 * id it will be stored under before it is queued, so callers returning it
+	 * straight away return that id, and the writer never changes a result a
+	 * caller may still be reading.
+	 */
+	public void enqueue(GuidelineResponse response) {
+		if (response == null) {
+			return;
+		}
+		// The id also makes a retried insert of a result that was stored
+		// after all fail as a duplicate instead of storing it twice
+		if (response.getId() == null) {
+			response.setId(new ObjectId().toHexString());
+		}
+		try {
+			while (!queue.offer(response, flushIntervalMillis, TimeUnit.MILLISECONDS)) {
+				flush();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			logger.warn("Interrupted while queueing result for {}; writing it directly.", response.getPageUrl());
+			write(List.of(response));
+			return;
+		}
+		if (queue.size() >= batchSize) {
+			flusher.execute(this::flushQuietly);
+		}
+	}
+
+	/**
+	 * Writes every queued result, then returns the page URLs of the job's
+	 * results that could not be stored, including those lost in earlier
+	 * background flushes. Each failure is reported once.
+	 */
+	public List<String> flush(String jobId) {
+		flush();
+		List<String> failed = unsaved.remove(jobId);
+		return failed != null ? failed : List.of();
+	}
+
+	/**
+	 * Writes every queued result before returning, for callers that read the
+	 * results back right after a scan.
+	 */
+	public void flush() {
+		synchronized (flushLock) {
+			List<GuidelineResponse> batch = new ArrayList<>(batchSize);
+			while (queue.drainTo(batch, batchSize) > 0) {
+				write(batch);
+				batch.clear();
+			}
+		}
+	}
+
+	private void flushQuietly() {
+		try {
+			flush();
+		} catch (RuntimeException e) {
+			logger.error("Flushing scan results failed.", e);
+		}
+	}
+
+	private void write(List<GuidelineResponse> batch) {
+		long start = System.nanoTime();
+		List<GuidelineResponse> pending = batch;
+		for (int attempt = 0; !pending.isEmpty(); attempt++) {
+			if (attempt > 0) {
+				if (attempt > retries || !pause(attempt)) {
+					break;
+				}
+				logger.warn("Retrying {} scan results that failed to save.", pending.size());
+			}
+			pending = insert(pending, attempt > 0);
+		}
+		if (pending.isEmpty()) {
+			logger.info("Saved {} scan results in {} ms.", batch.size(), (System.nanoTime() - start) / 1_000_000);
+			return;
+		}
+		logger.error("Saved {} of {} scan results; {} could not be stored.", batch.size() - pending.size(),
+				batch.size(), pending.size());
+		for (GuidelineResponse response : pending) {
+			if (response.getJobId() != null) {
+				unsaved.computeIfAbsent(response.getJobId(), jobId -> new ArrayList<>()).add(response.getPageUrl());
+			}
+		}
+	}
+
+	/**
+	 * Inserts the results and returns those that failed. On a retry, a
+	 * duplicate key means the earlier attempt stored the result after all.
+	 */
+	private List<GuidelineResponse> insert(List<GuidelineResponse> batch, boolean retry) {
+		try {
+			mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, GuidelineResponse.class).insert(batch)
+					.execute();
+			return List.of();
+		} catch (BulkOperationException e) {
+			List<GuidelineResponse> failed = new ArrayList<>();
+			for (BulkWriteError error : e.getErrors()) {
+				if (!(retry && error.getCode() == DUPLICATE_KEY)) {
+					failed.add(batch.get(error.getIndex()));
+				}
+			}
+			logger.warn("{} of {} scan results failed to save: {}", failed.size(), batch.size(), e.getMessage());
+			return failed;
+		} catch (RuntimeException e) {
+			logger.warn("Failed to save {} scan results: {}", batch.size(), e.getMessage());
+			return batch;
+		}
+	}
+
+	private boolean pause(int attempt) {
+		try {
+			Thread.sleep(retryDelayMillis * attempt);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
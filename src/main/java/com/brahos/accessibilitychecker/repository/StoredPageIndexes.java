@@ -0,0 +1,75 @@
+package com.brahos.accessibilitychecker.repository;
+
+import java.time.Duration;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.brahos.accessibilitychecker.model.StoredPage;
+
+/**
+ * Keeps page_store bounded: a TTL index on fetchedAt lets the server drop
+ * each page page.store.ttl-days after its body was stored, so an unchanged
+ * page costs one full download per period instead of living forever. Entries
+ * written before fetchedAt was a date would never expire, so they are removed
+ * at startup; they only cost one unconditional fetch. Failures are logged and
+ * the store keeps working without expiry.
+ */
+@Component
+public class StoredPageIndexes {
+
+	private static final Logger logger = LoggerFactory.getLogger(StoredPageIndexes.class);
+
+	private static final String TTL_INDEX = "fetchedAt_ttl";
+
+	/** BSON type number of a date. */
+	private static final int BSON_DATE = 9;
+
+	@Value("${page.store.ttl-days:30}")
+	private long ttlDays;
+
+	private final MongoTemplate mongoTemplate;
+
+	public StoredPageIndexes(MongoTemplate mongoTemplate) {
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureIndexes() {
+		if (ttlDays <= 0) {
+			logger.info("page_store entries do not expire.");
+			return;
+		}
+		Duration ttl = Duration.ofDays(ttlDays);
+		try {
+			long removed = mongoTemplate
+					.remove(new Query(Criteria.where("fetchedAt").not().type(BSON_DATE)), StoredPage.class)
+					.getDeletedCount();
+			if (removed > 0) {
+				logger.info("Removed {} page_store entries without a fetch date.", removed);
+			}
+			try {
+				mongoTemplate.indexOps(StoredPage.class).ensureIndex(
+						new Index().on("fetchedAt", Sort.Direction.ASC).named(TTL_INDEX).expire(ttl));
+			} catch (RuntimeException e) {
+				// The index exists with another expiry; change it in place.
+				mongoTemplate.getDb().runCommand(new Document("collMod",
+						mongoTemplate.getCollectionName(StoredPage.class)).append("index",
+								new Document("name", TTL_INDEX).append("expireAfterSeconds", ttl.toSeconds())));
+			}
+			logger.info("page_store entries expire {} days after they are stored.", ttlDays);
+		} catch (RuntimeException e) {
+			logger.warn("Could not set up page_store expiry: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,9 @@
+package com.brahos.accessibilitychecker.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.brahos.accessibilitychecker.model.StoredPage;
+
+public interface StoredPageRepository extends MongoRepository<StoredPage, String> {
+
+}
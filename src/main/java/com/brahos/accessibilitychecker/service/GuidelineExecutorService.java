@@ -1,8 +1,12 @@
 package com.brahos.accessibilitychecker.service;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.jsoup.nodes.Document;
 
 import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.brahos.accessibilitychecker.model.ScanOptions;
 import com.fasterxml.jackson.core.JsonProcessingException;
 
 /**
@@ -24,5 +28,35 @@ public interface GuidelineExecutorService {
 
 	GuidelineResponse executeGuidelinesAAA(Document document, String url) throws JsonProcessingException;
 
+	/**
+	 * Executes the guidelines of the given level and every level below it as a
+	 * single batch, instead of one level after another.
+	 *
+	 * @param level The WCAG level (A, AA, AAA)
+	 * @return The aggregated response, with guideline data in level order.
+	 */
+	GuidelineResponse executeGuidelines(Document document, String url, String level) throws JsonProcessingException;
+
+	/**
+	 * Executes the guidelines of the given level and every level below it,
+	 * limited to the requested success criteria. Handlers for other criteria
+	 * are never started; a static-only scan runs just the rules that read the
+	 * document and never touches a browser.
+	 *
+	 * @param options Criteria and scan mode; null runs the whole level with
+	 *                the browser
+	 */
+	GuidelineResponse executeGuidelines(Document document, String url, String level, ScanOptions options)
+			throws JsonProcessingException;
+
+	/**
+	 * Resolves requested criteria to their criterion numbers.
+	 *
+	 * @throws IllegalArgumentException if a criterion is not evaluated at the
+	 *                                  given level, or needs a browser in a
+	 *                                  static-only scan
+	 */
+	List<String> resolveCriteria(String level, Collection<String> criteria, boolean staticOnly);
+
 
 }
@@ -1,6 +1,9 @@
 package com.brahos.accessibilitychecker.service;
 
 import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.Optional;
 
 import org.jsoup.Jsoup;
@@ -9,26 +12,46 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import com.brahos.accessibilitychecker.utility.PageFetcher;
+
 /**
- * This class provides methods for parsing HTML content from a given URL and
- * handling retries.
+ * This class provides methods for parsing HTML content from a given URL or
+ * from a string.
  */
 @Service
 public class HtmlParser {
 
 	private static final Logger logger = LoggerFactory.getLogger(HtmlParser.class);
-	private static final int DEFAULT_TIMEOUT = 10_000; // 10 seconds
+
+	private final PageFetcher pageFetcher;
+
+	public HtmlParser(PageFetcher pageFetcher) {
+		this.pageFetcher = pageFetcher;
+	}
 
 	/**
-	 * Parses the HTML content from the specified URL.
+	 * Parses the HTML content from the specified URL, with a conditional GET
+	 * when the page was fetched before.
 	 *
 	 * @param url The URL of the web page to fetch.
 	 * @return An Optional containing the parsed HTML document if successful, or an
 	 *         empty Optional if an error occurs.
 	 */
 	public Optional<Document> parseUrl(String url) {
-		return parseUrl(url, DEFAULT_TIMEOUT,
-				"Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/96.0.4664.110 Safari/537.36");
+		try {
+			logger.info("Fetching HTML from URL: {}", url);
+			Document document = pageFetcher.fetch(new URI(url.trim())).getDocument();
+
+			if (document.html().isEmpty()) {
+				logger.error("Received empty HTML content from URL: {}", url);
+				return Optional.empty();
+			}
+			return Optional.of(document);
+
+		} catch (IOException | URISyntaxException e) {
+			logger.error("Error fetching HTML from URL: {} - {}", url, e.getMessage(), e);
+			return Optional.empty();
+		}
 	}
 
 	/**
@@ -45,9 +68,10 @@ public class HtmlParser {
 		try {
 			logger.info("Fetching HTML from URL: {}", url);
 
-			Document document = Jsoup.connect(url).timeout(timeout).userAgent(userAgent).get();
+			Document document = pageFetcher.fetch(new URI(url.trim()), Duration.ofMillis(timeout), userAgent)
+					.getDocument();
 
-			if (document == null || document.html().isEmpty()) {
+			if (document.html().isEmpty()) {
 				logger.error("Received empty HTML content from URL: {}", url);
 				return Optional.empty();
 			}
@@ -55,35 +79,25 @@ public class HtmlParser {
 			logger.info("Successfully fetched HTML from URL: {}", url);
 			return Optional.of(document);
 
-		} catch (IOException e) {
+		} catch (IOException | URISyntaxException e) {
 			logger.error("Error fetching HTML from URL: {} - {}", url, e.getMessage(), e);
 			return Optional.empty();
 		}
 	}
 
 	/**
-	 * Utility method for handling retries in case of network failures.
+	 * Fetches the page, retrying transient failures.
 	 *
 	 * @param url     The URL to fetch.
-	 * @param retries Number of retries to attempt in case of failure.
-	 * @param delay   Delay in milliseconds between retries.
+	 * @param retries Ignored; see page.fetch.retries.
+	 * @param delay   Ignored; see page.fetch.retry-delay-ms.
 	 * @return Optional containing the Document if successful, otherwise empty.
+	 * @deprecated Retries with backoff are done by the page transport for every
+	 *             fetch; use {@link #parseUrl(String)}.
 	 */
+	@Deprecated
 	public Optional<Document> fetchWithRetry(String url, int retries, int delay) {
-		int attempt = 0;
-		Optional<Document> document = Optional.empty();
-		while (attempt < retries && document.isEmpty()) {
-			document = parseUrl(url);
-			if (document.isEmpty()) {
-				attempt++;
-				try {
-					Thread.sleep(delay);
-				} catch (InterruptedException e) {
-					logger.error("Error during retry delay: {}", e.getMessage(), e);
-				}
-			}
-		}
-		return document;
+		return parseUrl(url);
 	}
 
 	/**
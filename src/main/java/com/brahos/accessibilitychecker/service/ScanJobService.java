@@ -0,0 +1,44 @@
+package com.brahos.accessibilitychecker.service;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Future;
+
+import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.brahos.accessibilitychecker.model.ScanDataResponse;
+import com.brahos.accessibilitychecker.model.ScanJob;
+import com.brahos.accessibilitychecker.model.ScanOptions;
+
+/**
+ * Runs scans in the background so the request that starts them returns
+ * immediately.
+ */
+public interface ScanJobService {
+
+	/**
+	 * Queues a scan of the given pages and returns the job tracking it.
+	 *
+	 * @param scanId   The scan the pages belong to
+	 * @param scanData The version, level and URLs of the scan
+	 * @param pages    The validated page URIs, in the same order as the URLs
+	 * @param options  The criteria to limit each page to, if any
+	 * @return The queued job
+	 */
+	ScanJob submit(String scanId, ScanDataResponse scanData, List<URI> pages, ScanOptions options);
+
+	/**
+	 * Scans the given pages in the background, handing each page's result to
+	 * the listener as soon as it is ready instead of collecting them. Streams
+	 * run on their own workers, so they never wait behind queued jobs.
+	 *
+	 * @return The running stream; cancel it when the client goes away
+	 */
+	Future<?> stream(String scanId, ScanDataResponse scanData, List<URI> pages, ScanOptions options,
+			ScanListener listener);
+
+	Optional<ScanJob> getJob(String jobId);
+
+	List<GuidelineResponse> getResults(String jobId);
+
+}
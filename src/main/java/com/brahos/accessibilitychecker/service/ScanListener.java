@@ -0,0 +1,22 @@
+package com.brahos.accessibilitychecker.service;
+
+import java.io.IOException;
+
+import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.brahos.accessibilitychecker.model.ScanSummary;
+
+/**
+ * Receives the results of a streamed scan as pages finish. Page callbacks may
+ * arrive from several threads; throwing from one stops the scan.
+ */
+public interface ScanListener {
+
+	void onPage(GuidelineResponse response) throws IOException;
+
+	void onPageFailed(String pageUrl, String message) throws IOException;
+
+	void onComplete(ScanSummary summary);
+
+	void onError(Exception e);
+
+}
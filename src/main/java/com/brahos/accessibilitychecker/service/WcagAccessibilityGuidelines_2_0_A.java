@@ -36,6 +36,8 @@ public interface WcagAccessibilityGuidelines_2_0_A {
 
 	GuidelineResponse evaluatePageTitle(Document doc, String url);
 
+	GuidelineResponse evaluatePageTitle(Document doc);
+
 	GuidelineResponse validateBypassBlocks(Document doc, String url);
 
 	GuidelineResponse evaluateFocusOrder(Document doc, String url);
@@ -44,6 +46,8 @@ public interface WcagAccessibilityGuidelines_2_0_A {
 
 	public GuidelineResponse validateLanguageOfPage(Document doc, String url);
 
+	public GuidelineResponse validateLanguageOfPage(Document doc);
+
 	public GuidelineResponse validateOnFocus(Document doc, String url);
 
 	public GuidelineResponse validateOnInput(Document doc, String url);
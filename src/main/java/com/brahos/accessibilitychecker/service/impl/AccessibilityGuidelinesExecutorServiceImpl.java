@@ -1,254 +1,154 @@
 package com.brahos.accessibilitychecker.service.impl;
 
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import org.jsoup.nodes.Document;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.brahos.accessibilitychecker.exception.AccessibilityServiceException;
+import com.brahos.accessibilitychecker.model.GuidelineData;
 import com.brahos.accessibilitychecker.model.GuidelineHandler;
+import com.brahos.accessibilitychecker.model.GuidelineHandler.Dependency;
 import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.brahos.accessibilitychecker.model.ScanOptions;
 import com.brahos.accessibilitychecker.service.GuidelineExecutorService;
 import com.brahos.accessibilitychecker.service.GuidelineResponseBuilderService;
-import com.brahos.accessibilitychecker.service.WcagAccessibilityGuidelines_2_0_AA;
-import com.brahos.accessibilitychecker.service.WcagAccessibilityGuidelines_2_0_AAA;
+import com.brahos.accessibilitychecker.utility.PageSession;
+import com.brahos.accessibilitychecker.utility.WebDriverFactory;
+import com.brahos.accessibilitychecker.utility.WebDriverSession;
 import com.fasterxml.jackson.core.JsonProcessingException;
 
 import ch.qos.logback.classic.Logger;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
 @Service
 public class AccessibilityGuidelinesExecutorServiceImpl implements GuidelineExecutorService {
 
-	private final ExecutorService executorService = Executors.newFixedThreadPool(10);
 	private static final Logger logger = (Logger) LoggerFactory
 			.getLogger(AccessibilityGuidelinesExecutorServiceImpl.class);
 
-	private final AccessibilityGuidelinesServiceImpl_2_0_A accessibilityGuidelinesServiceImplA;
-	private final WcagAccessibilityGuidelines_2_0_AA wcagAccessibilityGuidelinesAA;
-	private final WcagAccessibilityGuidelines_2_0_AAA wcagAccessibilityGuidelinesAAA;
-	private final GuidelineResponseBuilderService guidelineResponseBuilderService;
-
-	public AccessibilityGuidelinesExecutorServiceImpl(
-			AccessibilityGuidelinesServiceImpl_2_0_A accessibilityGuidelinesServiceImplA,
-			WcagAccessibilityGuidelines_2_0_AA wcagAccessibilityGuidelinesAA,
-			WcagAccessibilityGuidelines_2_0_AAA wcagAccessibilityGuidelinesAAA,
-			GuidelineResponseBuilderService guidelineResponseBuilderService) {
-		this.accessibilityGuidelinesServiceImplA = accessibilityGuidelinesServiceImplA;
-		this.wcagAccessibilityGuidelinesAA = wcagAccessibilityGuidelinesAA;
-		this.wcagAccessibilityGuidelinesAAA = wcagAccessibilityGuidelinesAAA;
-		this.guidelineResponseBuilderService = guidelineResponseBuilderService;
-	}
-
-	private List<GuidelineHandler> getGuidelineHandlersForLevelA(Document document, String url) {
-		return List.of(
-				new GuidelineHandler("Non-text content",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.evaluateNonTextContent(doc), false),
-
-				new GuidelineHandler("Audio-video content",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.audioVideoOnlyContent(doc), false),
-
-				new GuidelineHandler("Captions Prerecorded",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.captionsPrerecorded(doc), false),
-
-				new GuidelineHandler("Audio Description or Media Alternative",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.audioDescriptionOrMediaAlternative(doc), false),
-
-				new GuidelineHandler("Info and Relationships",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.infoAndRelationships(doc, u), true),
-
-				new GuidelineHandler("Meaningful Sequence",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.meaningfulSequence(doc), false),
-
-				new GuidelineHandler("Sensory Characteristics",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.sensoryCharacteristics(doc), false),
+	/**
+	 * "platform" runs handlers on a fixed pool shared by all requests;
+	 * "virtual" gives each request its own virtual-thread executor.
+	 */
+	@Value("${guideline.executor.mode:platform}")
+	private String executorMode;
 
-				new GuidelineHandler("Use of Color", (doc, u) -> accessibilityGuidelinesServiceImplA.useOfColor(doc),
-						false),
+	@Value("${guideline.executor.pool-size:10}")
+	private int poolSize;
 
-				new GuidelineHandler("Evaluate Audio Control",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.evaluateAudioControl(doc), false),
+	@Value("${guideline.executor.max-browser-handlers:16}")
+	private int maxBrowserHandlers;
 
-				new GuidelineHandler("validateKeyboardAccessibility",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.validateKeyboardAccessibility(doc, u), true),
+	@Value("${guideline.handler.timeout-seconds:60}")
+	private long handlerTimeoutSeconds;
 
-				new GuidelineHandler("validateNoKeyboardTrap",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.validateNoKeyboardTrap(doc, u), true),
+	@Value("${guideline.handler.static-timeout-seconds:20}")
+	private long staticHandlerTimeoutSeconds;
 
-				new GuidelineHandler("validateTimingAdjustable",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.validateTimingAdjustable(doc, u), true),
+	@Value("${guideline.page.deadline-seconds:240}")
+	private long pageDeadlineSeconds;
 
-				new GuidelineHandler("validatePauseStopHide",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.validatePauseStopHide(doc, u), true),
+	private ExecutorService executorService;
+	private Semaphore browserPermits;
+	private boolean virtualThreads;
 
-				new GuidelineHandler("validateFlashingContent",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.validateFlashingContent(doc, u), true),
-
-				new GuidelineHandler("validateBypassBlocks",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.validateBypassBlocks(doc, u), true),
-
-				new GuidelineHandler("evaluatePageTitle",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.evaluatePageTitle(doc, u), true),
-
-				new GuidelineHandler("evaluateFocusOrder",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.evaluateFocusOrder(doc, u), true),
-
-				new GuidelineHandler("evaluateLinkPurpose",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.evaluateLinkPurpose(doc, u), true),
-
-				new GuidelineHandler("validateLanguageOfPage",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.validateLanguageOfPage(doc, u), true),
-
-				new GuidelineHandler("validateOnFocus",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.validateOnFocus(document, url), true),
-
-				new GuidelineHandler("validateOnInput",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.validateOnInput(document, url), true),
-
-				new GuidelineHandler("validateErrorIdentification",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.validateErrorIdentification(document, url),
-						true),
-
-				new GuidelineHandler("validateLabelsOrInstructions",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.validateLabelsOrInstructions(document, url),
-						true),
-
-				new GuidelineHandler("validateParsing",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.validateParsing(document, url), true),
-
-				new GuidelineHandler("validateNameRoleValue",
-						(doc, u) -> accessibilityGuidelinesServiceImplA.validateNameRoleValue(document, url), true)
+	private final GuidelineHandlerRegistry guidelineHandlerRegistry;
+	private final GuidelineResponseBuilderService guidelineResponseBuilderService;
 
-		);
+	public AccessibilityGuidelinesExecutorServiceImpl(GuidelineHandlerRegistry guidelineHandlerRegistry,
+			GuidelineResponseBuilderService guidelineResponseBuilderService) {
+		this.guidelineHandlerRegistry = guidelineHandlerRegistry;
+		this.guidelineResponseBuilderService = guidelineResponseBuilderService;
 	}
 
-	private List<GuidelineHandler> getGuidelineHandlersForLevelAA(Document document, String url) {
-		return List.of(
-				new GuidelineHandler("Captions Live", (doc, u) -> wcagAccessibilityGuidelinesAA.captionsLive(doc),
-						false),
-				new GuidelineHandler("Audio Description Prerecorded",
-						(doc, u) -> wcagAccessibilityGuidelinesAA.audioDescriptionPrerecorded(doc), false),
-				new GuidelineHandler("evaluateTextContrast",
-						(doc, u) -> wcagAccessibilityGuidelinesAA.evaluateTextContrast(doc, u), true),
-				new GuidelineHandler("Resize Text", (doc, u) -> wcagAccessibilityGuidelinesAA.resizeText(doc, u), true),
-				new GuidelineHandler("checkImagesOfText",
-						(doc, u) -> wcagAccessibilityGuidelinesAA.checkImagesOfText(doc, u), true),
-				new GuidelineHandler("checkMultipleWays",
-						(doc, u) -> wcagAccessibilityGuidelinesAA.checkMultipleWays(doc, u), true),
-				new GuidelineHandler("validateHeadingsAndLabels",
-						(doc, u) -> wcagAccessibilityGuidelinesAA.validateHeadingsAndLabels(doc, u), true),
-				new GuidelineHandler("validateFocusVisible",
-						(doc, u) -> wcagAccessibilityGuidelinesAA.validateFocusVisible(doc, u), true),
-				new GuidelineHandler("validateLanguageOfParts",
-						(doc, u) -> wcagAccessibilityGuidelinesAA.validateLanguageOfParts(doc, u), true),
-				new GuidelineHandler("validateConsistentNavigation",
-						(doc, u) -> wcagAccessibilityGuidelinesAA.validateConsistentNavigation(doc, u), true),
-				new GuidelineHandler("validateConsistentIdentification",
-						(doc, u) -> wcagAccessibilityGuidelinesAA.validateConsistentIdentification(doc, u), true),
-				new GuidelineHandler("validateErrorSuggestion",
-						(doc, u) -> wcagAccessibilityGuidelinesAA.validateErrorSuggestion(doc, u), true),
-				new GuidelineHandler("validateErrorPreventionForCriticalActions",
-						(doc, u) -> wcagAccessibilityGuidelinesAA.validateErrorPreventionForCriticalActions(doc, u),
-						true)
-
-		);
+	@PostConstruct
+	public void init() {
+		virtualThreads = "virtual".equalsIgnoreCase(executorMode.trim());
+		if (!virtualThreads) {
+			executorService = Executors.newFixedThreadPool(poolSize);
+		}
+		browserPermits = new Semaphore(maxBrowserHandlers, true);
+		logger.info("Guideline executor using {} threads (browser handlers in flight: {}).",
+				virtualThreads ? "virtual" : poolSize + " platform", maxBrowserHandlers);
 	}
 
-	private List<GuidelineHandler> getGuidelineHandlersForLevelAAA(Document document, String url) {
-
-		logger.info("inside the getGuidelineHandlersForLevelAAA");
-		return List.of(
-				new GuidelineHandler("Sign Language Prerecorded",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.signLanguagePrerecorded(doc), false),
-
-				new GuidelineHandler("Extended Audio Description Prerecorded",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.extendedAudioDescriptionPrerecorded(doc), false),
-
-				new GuidelineHandler("Media Alternative Prerecorded",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.mediaAlternativePrerecorded(doc), false),
-
-				new GuidelineHandler("Audio Only Live", (doc, u) -> wcagAccessibilityGuidelinesAAA.audioOnlyLive(doc),
-						false),
-
-				new GuidelineHandler("validateContrastEnhancedLevelAAA",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validateContrastEnhancedLevelAAA(doc, u), true),
-
-				new GuidelineHandler("validateLowOrNoBackgroundAudio",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validateLowOrNoBackgroundAudio(doc, u), true),
-
-				new GuidelineHandler("validateVisualPresentation",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validateVisualPresentation(doc, u), true),
-
-				new GuidelineHandler("Images of Text (No Exception)",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.evaluateImagesOfText(doc, u), true),
-
-				new GuidelineHandler("validateKeyboardAccessibilityNoException",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validateKeyboardAccessibilityNoException(document,
-								url),
-						true),
-
-				new GuidelineHandler("validateNoTiming",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validateNoTiming(document, url), true),
-
-				new GuidelineHandler("validateInterruptions",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validateInterruptions(document, url), true),
-
-				new GuidelineHandler("validateReauthentication",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validateReauthentication(document, url), true),
-
-				new GuidelineHandler("validateFlashingContentAAA",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validateFlashingContentAAA(document, url), true),
-
-				new GuidelineHandler("validateLocation",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validateLocation(document, url), true),
-
-				new GuidelineHandler("validateLinkPurpose",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validateLinkPurpose(document, url), true),
-
-				new GuidelineHandler("validateSect	ionHeadings",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validateSectionHeadings(document, url), true),
-
-				new GuidelineHandler("validateUnusualWords",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validateUnusualWords(document, url), true),
-
-				new GuidelineHandler("validateAbbreviations",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validateAbbreviations(document, url), true),
-
-				new GuidelineHandler("validateReadingLevel",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validateReadingLevel(document, url), true),
-
-				new GuidelineHandler("validatePronunciation",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validatePronunciation(document, url), true),
-
-				new GuidelineHandler("validateChangeOnRequest",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validateChangeOnRequest(document, url), true),
-
-				new GuidelineHandler("validateContextSensitiveHelp",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validateContextSensitiveHelp(doc, u), true),
-
-				new GuidelineHandler("validateAllErrorPrevention",
-						(doc, u) -> wcagAccessibilityGuidelinesAAA.validateAllErrorPrevention(doc, u), true)
-
-		);
+	@PreDestroy
+	public void shutdown() {
+		if (executorService != null) {
+			executorService.shutdownNow();
+		}
 	}
 
-	private List<GuidelineResponse> executeGuidelineTasks(List<GuidelineHandler> guidelineHandlers, Document document,
+	private List<GuidelineResponse> executeGuidelineTasks(List<GuidelineHandler> registered, Document document,
 			String url) throws AccessibilityServiceException {
 
-		List<GuidelineResponse> guidelineResponses = new ArrayList<>();
+		List<GuidelineHandler> handlers = new ArrayList<>();
+		for (GuidelineHandler handler : registered) {
+			if (!handler.isRequiresUrl() || url != null) {
+				handlers.add(handler);
+			}
+		}
 		List<Future<GuidelineResponse>> futures = new ArrayList<>();
+		Map<Future<GuidelineResponse>, Integer> positions = new HashMap<>();
+		// A batch of static rules never looks up or binds a browser session.
+		boolean usesBrowser = handlers.stream().anyMatch(GuidelineHandler::isRequiresUrl);
+		WebDriverSession session = usesBrowser ? WebDriverFactory.currentSession() : null;
+		PageSession page = session != null && url != null ? session.page(url) : null;
+
+		// In virtual mode the executor belongs to this call: closing it in the
+		// finally block ends every handler it started, even when one fails.
+		ExecutorService executor = virtualThreads ? Executors.newVirtualThreadPerTaskExecutor() : executorService;
+		CompletionService<GuidelineResponse> completion = new ExecutorCompletionService<>(executor);
+		AtomicLongArray startedAt;
+		GuidelineResponse[] results;
 
 		try {
-			for (GuidelineHandler handler : guidelineHandlers) {
-				if (!handler.isRequiresUrl() || (handler.isRequiresUrl() && url != null)) {
-					Future<GuidelineResponse> future = executorService.submit(() -> handler.process(document, url));
-					futures.add(future);
-					logger.info("{} evaluation started.", handler.getName());
-				}
+			// Cheapest rules are submitted first so their results are in while
+			// browser rules wait for permits; among browser rules, readers of the
+			// shared page go before the rules that force a reload.
+			List<Integer> submissionOrder = new ArrayList<>();
+			for (int i = 0; i < handlers.size(); i++) {
+				submissionOrder.add(i);
+			}
+			submissionOrder.sort(Comparator.comparing((Integer i) -> handlers.get(i).getCost())
+					.thenComparing(i -> handlers.get(i).isMutatesPage()));
+
+			startedAt = new AtomicLongArray(handlers.size());
+			futures.addAll(Collections.nCopies(handlers.size(), null));
+			for (int position : submissionOrder) {
+				GuidelineHandler handler = handlers.get(position);
+				Future<GuidelineResponse> future = completion.submit(() -> {
+					startedAt.set(position, System.nanoTime());
+					if (!usesBrowser) {
+						return handler.process(document, url);
+					}
+					return WebDriverFactory.callWithSession(session, () -> runHandler(handler, page, document, url));
+				});
+				positions.put(future, position);
+				futures.set(position, future);
+				logger.info("{} evaluation started.", handler.getName());
 			}
 
 //			
@@ -270,22 +170,175 @@ public class AccessibilityGuidelinesExecutorServiceImpl implements GuidelineExec
 //			    }
 //			}
 
-			for (Future<GuidelineResponse> future : futures) {
-				try {
-					GuidelineResponse response = future.get(); // This blocks until the task completes
-					guidelineResponses.add(response);
-				} catch (Exception e) {
-					logger.error("Error while executing guideline.", e);
-					throw new AccessibilityServiceException("Error occurred while executing accessibility guidelines.",
-							e);
+			// Take results as handlers finish and slot each one back into
+			// registry order. A handler that overruns its budget, fails, or is
+			// still pending at the page deadline is cancelled and reported as
+			// incomplete; the rest of the page is unaffected.
+			results = new GuidelineResponse[handlers.size()];
+			long pageDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(pageDeadlineSeconds);
+			int remaining = handlers.size();
+			while (remaining > 0) {
+				long now = System.nanoTime();
+				if (now - pageDeadline >= 0) {
+					// Handlers that finished but were not polled yet keep their
+					// result; everything else is cancelled. No slot is left empty.
+					for (int i = 0; i < results.length; i++) {
+						if (results[i] != null) {
+							continue;
+						}
+						Future<GuidelineResponse> pending = futures.get(i);
+						if (!pending.isDone()) {
+							pending.cancel(true);
+							logger.warn("{} cancelled at the page deadline of {}s.", handlers.get(i).getName(),
+									pageDeadlineSeconds);
+						}
+						results[i] = completedResponse(handlers.get(i), pending,
+								"Page time budget of " + pageDeadlineSeconds + "s exceeded.");
+					}
+					break;
+				}
+
+				for (int i = 0; i < results.length; i++) {
+					long started = startedAt.get(i);
+					if (results[i] == null && started != 0 && now - started > budgetOf(handlers.get(i))) {
+						futures.get(i).cancel(true);
+					}
+				}
+
+				Future<GuidelineResponse> future = completion.poll(
+						Math.min(TimeUnit.MILLISECONDS.toNanos(250), pageDeadline - now), TimeUnit.NANOSECONDS);
+				if (future == null) {
+					continue;
 				}
+				int position = positions.get(future);
+				GuidelineHandler handler = handlers.get(position);
+				remaining--;
+				results[position] = completedResponse(handler, future, "Time budget of "
+						+ TimeUnit.NANOSECONDS.toSeconds(budgetOf(handler)) + "s exceeded.");
 			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			futures.forEach(pending -> {
+				if (pending != null) {
+					pending.cancel(true);
+				}
+			});
+			throw new AccessibilityServiceException("Interrupted while executing accessibility guidelines.", e);
 		} catch (Exception e) {
 			logger.error("Error during guideline execution", e);
+			futures.forEach(pending -> {
+				if (pending != null) {
+					pending.cancel(true);
+				}
+			});
 			throw new AccessibilityServiceException("Error occurred while executing accessibility guidelines.", e);
+		} finally {
+			if (executor != executorService) {
+				executor.shutdownNow();
+			}
+		}
+
+		return new ArrayList<>(Arrays.asList(results));
+	}
+
+	/**
+	 * The result of a finished handler, or an incomplete placeholder when it
+	 * was cancelled or failed.
+	 */
+	private GuidelineResponse completedResponse(GuidelineHandler handler, Future<GuidelineResponse> future,
+			String cancelReason) throws InterruptedException {
+		try {
+			GuidelineResponse response = future.get();
+			return response != null ? response : incompleteResponse(handler, "Evaluation returned no result.");
+		} catch (CancellationException e) {
+			logger.warn("{} cancelled: {}", handler.getName(), cancelReason);
+			return incompleteResponse(handler, cancelReason);
+		} catch (ExecutionException e) {
+			logger.error("Error while executing guideline {}.", handler.getName(), e.getCause());
+			return incompleteResponse(handler, "Evaluation failed: " + e.getCause().getMessage());
+		}
+	}
+
+	private long budgetOf(GuidelineHandler handler) {
+		return TimeUnit.SECONDS
+				.toNanos(handler.isRequiresUrl() ? handlerTimeoutSeconds : staticHandlerTimeoutSeconds);
+	}
+
+	/**
+	 * Placeholder result for a guideline that could not finish, so the page
+	 * reports it as incomplete instead of passing or failing it.
+	 */
+	private GuidelineResponse incompleteResponse(GuidelineHandler handler, String reason) {
+		GuidelineData data = GuidelineData.builder().guideline(handler.getGuideline()).level(handler.getLevel())
+				.wcagVersion("2.0")
+				.issueDetails(new ArrayList<>()).issueCount(0).successCount(0).incomplete(true)
+				.incompleteReason(reason).build();
+		return GuidelineResponse.builder().status(false).message("Guideline evaluation incomplete.")
+				.data(new ArrayList<>(List.of(data))).timestamp(LocalTime.now().toString()).build();
+	}
+
+	/**
+	 * Browser rules share the page loaded once for this URL; rules that mutate
+	 * it run exclusively so readers never observe their changes. The number of
+	 * browser rules in flight across all requests is bounded, so cheap
+	 * virtual threads cannot pile unbounded work onto the browsers.
+	 */
+	private GuidelineResponse runHandler(GuidelineHandler handler, PageSession page, Document document, String url)
+			throws Exception {
+		if (page == null || !handler.isRequiresUrl()) {
+			return handler.process(document, url);
+		}
+		browserPermits.acquire();
+		try {
+			if (handler.dependsOn(Dependency.FOCUS_WALK)) {
+				page.focusWalk();
+			}
+			if (handler.isMutatesPage()) {
+				return page.exclusive(() -> handler.process(document, url));
+			}
+			return page.shared(() -> handler.process(document, url));
+		} finally {
+			browserPermits.release();
+		}
+	}
+
+	@Override
+	public GuidelineResponse executeGuidelines(Document document, String url, String level)
+			throws JsonProcessingException {
+		return executeGuidelines(document, url, level, (ScanOptions) null);
+	}
+
+	@Override
+	public GuidelineResponse executeGuidelines(Document document, String url, String level, ScanOptions options)
+			throws JsonProcessingException {
+		if (document == null) {
+			throw new AccessibilityServiceException("Input document cannot be null.");
+		}
+
+		boolean staticOnly = options != null && options.isStaticOnly();
+		List<GuidelineHandler> handlers;
+		if (options == null || !options.hasCriteria()) {
+			logger.info("Starting level {} {}guideline execution...", level, staticOnly ? "static " : "");
+			handlers = guidelineHandlerRegistry.upToLevel(level, staticOnly);
+		} else {
+			handlers = guidelineHandlerRegistry.select(level, options.getCriteria(), staticOnly);
+			logger.info("Starting level {} {}guideline execution for criteria {} ({} handlers)...", level,
+					staticOnly ? "static " : "", options.getCriteria(), handlers.size());
 		}
+		List<GuidelineResponse> guidelineResponses = executeGuidelineTasks(handlers, document, url);
 
-		return guidelineResponses;
+		return guidelineResponseBuilderService.aggregateResponses(guidelineResponses);
+	}
+
+	@Override
+	public List<String> resolveCriteria(String level, Collection<String> criteria, boolean staticOnly) {
+		List<String> resolved = new ArrayList<>();
+		for (GuidelineHandler handler : guidelineHandlerRegistry.select(level, criteria, staticOnly)) {
+			if (!resolved.contains(handler.getCriterion())) {
+				resolved.add(handler.getCriterion());
+			}
+		}
+		return resolved;
 	}
 
 	@Override
@@ -295,8 +348,8 @@ public class AccessibilityGuidelinesExecutorServiceImpl implements GuidelineExec
 		}
 
 		logger.info("Starting level A guideline execution...");
-		List<GuidelineHandler> guidelineHandlers = getGuidelineHandlersForLevelA(document, url);
-		List<GuidelineResponse> guidelineResponses = executeGuidelineTasks(guidelineHandlers, document, url);
+		List<GuidelineResponse> guidelineResponses = executeGuidelineTasks(guidelineHandlerRegistry.forLevel("A"),
+				document, url);
 
 		return guidelineResponseBuilderService.aggregateResponses(guidelineResponses);
 	}
@@ -308,8 +361,8 @@ public class AccessibilityGuidelinesExecutorServiceImpl implements GuidelineExec
 		}
 
 		logger.info("Starting level AA guideline execution...");
-		List<GuidelineHandler> guidelineHandlers = getGuidelineHandlersForLevelAA(document, url);
-		List<GuidelineResponse> guidelineResponses = executeGuidelineTasks(guidelineHandlers, document, url);
+		List<GuidelineResponse> guidelineResponses = executeGuidelineTasks(guidelineHandlerRegistry.forLevel("AA"),
+				document, url);
 
 		return guidelineResponseBuilderService.aggregateResponses(guidelineResponses);
 	}
@@ -321,8 +374,8 @@ public class AccessibilityGuidelinesExecutorServiceImpl implements GuidelineExec
 		}
 
 		logger.info("Starting level AAA guideline execution...");
-		List<GuidelineHandler> guidelineHandlers = getGuidelineHandlersForLevelAAA(document, url);
-		List<GuidelineResponse> guidelineResponses = executeGuidelineTasks(guidelineHandlers, document, url);
+		List<GuidelineResponse> guidelineResponses = executeGuidelineTasks(guidelineHandlerRegistry.forLevel("AAA"),
+				document, url);
 
 		return guidelineResponseBuilderService.aggregateResponses(guidelineResponses);
 	}
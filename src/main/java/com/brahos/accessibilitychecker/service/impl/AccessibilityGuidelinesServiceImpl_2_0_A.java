@@ -41,6 +41,10 @@ import com.brahos.accessibilitychecker.repository.AccessibilityIssueFixesReposit
 import com.brahos.accessibilitychecker.service.GuidelineResponseBuilderService;
 import com.brahos.accessibilitychecker.service.HelperGuidelinesExecutorService;
 import com.brahos.accessibilitychecker.service.WcagAccessibilityGuidelines_2_0_A;
+import com.brahos.accessibilitychecker.utility.DomIndex;
+import com.brahos.accessibilitychecker.utility.DomInterest;
+import com.brahos.accessibilitychecker.utility.FocusWalk;
+import com.brahos.accessibilitychecker.utility.StaticRuleEngine;
 import com.brahos.accessibilitychecker.utility.WebDriverFactory;
 import com.brahos.accessibilitychecker_enum.WcagGuidelineA;
 
@@ -95,11 +99,33 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 	@Autowired
 	private AccessibilityIssueFixesRepository issueFixesRepository;
 
+	@Autowired
+	private StaticRuleEngine staticRuleEngine;
+
 	private Map<String, IssueFixDetails> fixes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 
 	@PostConstruct
 	public void init() {
 		fixes = getAllFixesDataByVersion("2.0", "A");
+
+		staticRuleEngine.register(DomInterest.builder().rule("evaluateNonTextContent").tag("img").tag("video")
+				.tag("audio").tag("input").build());
+		staticRuleEngine.register(
+				DomInterest.builder().rule("audioVideoOnlyContent").tag("audio").tag("video").build());
+		staticRuleEngine.register(DomInterest.builder().rule("captionsPrerecorded").tag("video").build());
+		staticRuleEngine.register(
+				DomInterest.builder().rule("audioDescriptionOrMediaAlternative").tag("video").tag("audio").build());
+		staticRuleEngine.register(DomInterest.builder().rule("infoAndRelationships").tag("form").tag("table")
+				.tag("ul").tag("ol").attribute("id").attribute("class").build());
+		staticRuleEngine.register(DomInterest.builder().rule("meaningfulSequence")
+				.tags(List.of("div", "section", "header", "footer", "article", "aside", "nav", "main", "h1", "h2",
+						"h3", "p", "ol", "ul", "li", "table"))
+				.build());
+		staticRuleEngine.register(DomInterest.builder().rule("sensoryCharacteristics")
+				.tags(List.of("p", "li", "div", "span", "a")).build());
+		staticRuleEngine.register(DomInterest.builder().rule("useOfColor")
+				.tags(List.of("p", "li", "div", "span", "a", "button", "input", "table")).build());
+		staticRuleEngine.register(DomInterest.builder().rule("evaluateAudioControl").tag("audio").build());
 	}
 
 	public Map<String, IssueFixDetails> getAllFixesDataByVersion(String wcagVersion, String level) {
@@ -135,15 +161,16 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		Set<String> seenAltTexts = new HashSet<>();
 		List<IssueDetails> issueList = new ArrayList<>();
 
-		// Check various elements
-		checkImageElements(doc, seenAltTexts, issueList);
-		checkVideoElements(doc, issueList);
-		checkAudioElements(doc, issueList);
-		checkInputElements(doc, issueList);
+		// Check various elements against one index of the page
+		DomIndex dom = staticRuleEngine.index(doc);
+		checkImageElements(doc, dom, seenAltTexts, issueList);
+		checkVideoElements(doc, dom, issueList);
+		checkAudioElements(doc, dom, issueList);
+		checkInputElements(doc, dom, issueList);
 
 		// Calculate issue and success count
 		int issueCount = issueList.size();
-		int totalChecked = getTotalCheckedElements(doc);
+		int totalChecked = dom.checkedElements();
 		int successCount = totalChecked - issueCount;
 
 		// Update global counts
@@ -153,9 +180,10 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 				successCount, issueCount);
 	}
 
-	private void checkImageElements(Document doc, Set<String> seenAltTexts, List<IssueDetails> issueList) {
+	private void checkImageElements(Document doc, DomIndex dom, Set<String> seenAltTexts,
+			List<IssueDetails> issueList) {
 		System.out.println("..............fixes.................." + fixes.get("Missing Alt Attribute").getFix());
-		Elements images = doc.select("img");
+		Elements images = dom.select("img");
 		for (Element img : images) {
 			String altText = img.attr("alt").trim();
 			String tempImg = img.toString();
@@ -185,8 +213,8 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		}
 	}
 
-	private void checkVideoElements(Document doc, List<IssueDetails> issueList) {
-		Elements videos = doc.select("video");
+	private void checkVideoElements(Document doc, DomIndex dom, List<IssueDetails> issueList) {
+		Elements videos = dom.select("video");
 		for (Element video : videos) {
 			if (video.select("track[kind=subtitles], track[kind=captions]").isEmpty()) {
 				addIssueN(issueList, video, video.toString(), "Missing captions/subtitles", doc);
@@ -194,8 +222,8 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		}
 	}
 
-	private void checkAudioElements(Document doc, List<IssueDetails> issueList) {
-		Elements audios = doc.select("audio");
+	private void checkAudioElements(Document doc, DomIndex dom, List<IssueDetails> issueList) {
+		Elements audios = dom.select("audio");
 		for (Element audio : audios) {
 			if (audio.select("track[kind=captions]").isEmpty()) {
 				addIssueN(issueList, audio, audio.toString(), "Missing captions/transcripts", doc);
@@ -203,9 +231,12 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		}
 	}
 
-	private void checkInputElements(Document doc, List<IssueDetails> issueList) {
-		Elements inputs = doc.select("input:not([type='hidden'])");
+	private void checkInputElements(Document doc, DomIndex dom, List<IssueDetails> issueList) {
+		Elements inputs = dom.select("input");
 		for (Element input : inputs) {
+			if ("hidden".equalsIgnoreCase(input.attr("type").trim())) {
+				continue;
+			}
 			if (!input.hasAttr("aria-label") && !input.hasAttr("aria-labelledby")) {
 				addIssueN(issueList, input, input.toString(), "Missing label for input field", doc);
 			}
@@ -220,96 +251,13 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 
 	}
 
-	private void checkImagesForAltText(Document doc, List<IssueDetails> issuesList, Set<String> processedAltTexts,
-			String accessibilityLevel) {
-		try {
-			Elements images = doc.select("img");
-			for (Element img : images) {
-
-				String altText = img.attr("alt").trim();
-				String imageHtmlString = img.toString();
-
-				if (!img.hasAttr("alt")) {
-					iGuidelineDataTransformer.addIssueUsingJsoup(issuesList, img, imageHtmlString,
-							"Missing alt attribute", accessibilityLevel);
-				} else if (altText.isEmpty() && helperGuidelinesExecutorService.isFunctionalOrInformative(img)) {
-					iGuidelineDataTransformer.addIssueUsingJsoup(issuesList, img, imageHtmlString, "Empty alt text",
-							accessibilityLevel);
-				} else {
-					if (processedAltTexts.contains(altText)) {
-						iGuidelineDataTransformer.addIssueUsingJsoup(issuesList, img, imageHtmlString,
-								"Duplicate alt text", accessibilityLevel);
-					} else {
-						processedAltTexts.add(altText);
-					}
-
-					if (helperGuidelinesExecutorService.isPlaceholderText(altText)) {
-						iGuidelineDataTransformer.addIssueUsingJsoup(issuesList, img, imageHtmlString,
-								"Placeholder alt text", accessibilityLevel);
-					}
-
-					if (!helperGuidelinesExecutorService.isAltTextSufficient(altText, img)) {
-						iGuidelineDataTransformer.addIssueUsingJsoup(issuesList, img, imageHtmlString,
-								"Insufficient alt text", accessibilityLevel);
-					}
-				}
-			}
-		} catch (Exception e) {
-
-		}
-	}
-
-	private void checkVideosForCaptions(Document doc, List<IssueDetails> issuesList, String accessibilityLevel) {
-		try {
-			Elements videos = doc.select("video");
-			for (Element video : videos) {
-				if (video.select("track[kind=subtitles], track[kind=captions]").isEmpty()) {
-					iGuidelineDataTransformer.addIssueUsingJsoup(issuesList, video, video.toString(),
-							"Missing captions/subtitles", accessibilityLevel);
-				}
-			}
-		} catch (Exception e) {
-
-		}
-	}
-
-	private void checkAudiosForCaptions(Document doc, List<IssueDetails> issuesList, String accessibilityLevel) {
-		try {
-			Elements audios = doc.select("audio");
-			for (Element audio : audios) {
-				if (audio.select("track[kind=captions]").isEmpty()) {
-					iGuidelineDataTransformer.addIssueUsingJsoup(issuesList, audio, audio.toString(),
-							"Missing captions/transcripts", accessibilityLevel);
-				}
-			}
-		} catch (Exception e) {
-
-		}
-	}
-
-	private void checkInputFieldsForLabels(Document doc, List<IssueDetails> issuesList, String accessibilityLevel) {
-		try {
-			Elements inputs = doc.select("input:not([type='hidden']):not([aria-label]):not([aria-labelledby])");
-			for (Element input : inputs) {
-				if (!input.hasAttr("aria-label") && !input.hasAttr("aria-labelledby")) {
-					iGuidelineDataTransformer.addIssueUsingJsoup(issuesList, input, input.toString(),
-							"Missing label for input field", accessibilityLevel);
-				}
-			}
-		} catch (Exception e) {
-
-		}
-	}
-
 	private int getTotalCheckedElements(Document doc) {
 		if (doc == null) {
 			return 0; // Prevent NullPointerException
 		}
 
 		try {
-			return doc.select("img, svg, picture, figure, video, audio, source, track, "
-					+ "input, textarea, select, button, label, "
-					+ "[role=img], [role=button], [role=checkbox], [role=link]").size();
+			return staticRuleEngine.index(doc).checkedElements();
 		} catch (Exception e) {
 
 			return 0;
@@ -319,10 +267,11 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 	public GuidelineResponse audioVideoOnlyContent(Document doc) {
 
 		ArrayList<IssueDetails> issueList = new ArrayList<>();
+		DomIndex dom = staticRuleEngine.index(doc);
 
 		try {
-			Elements audioElements = doc.select("audio");
-			Elements videoElements = doc.select("video");
+			Elements audioElements = dom.select("audio");
+			Elements videoElements = dom.select("video");
 
 			for (Element audio : audioElements) {
 				if (helperGuidelinesExecutorService.isPrerecorded(audio)) {
@@ -353,7 +302,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		}
 
 		int issueCount = issueList.size();
-		int totalChecked = getTotalCheckedElements(doc);
+		int totalChecked = dom.checkedElements();
 		int successCount = totalChecked - issueCount;
 
 		// Update global issue & success counts
@@ -412,7 +361,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 
 		try {
 			// Select all video elements in the document
-			Elements videoElements = doc.select("video");
+			Elements videoElements = staticRuleEngine.index(doc).select("video");
 
 			// Analyze each video for captions
 			// TODO TITLE -->Missing Captions/Subtitles
@@ -444,8 +393,9 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 	public GuidelineResponse audioDescriptionOrMediaAlternative(Document doc) {
 
 		List<IssueDetails> issueList = new ArrayList<>();
+		DomIndex dom = staticRuleEngine.index(doc);
 
-		Elements videos = doc.select("video");
+		Elements videos = dom.select("video");
 		for (Element video : videos) {
 			boolean hasAudioDescription = !video.select("track[kind=descriptions]").isEmpty();
 			boolean hasMediaAlternative = video.select("track[kind=transcript]").size() > 0;
@@ -456,7 +406,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 			}
 		}
 
-		Elements audios = doc.select("audio");
+		Elements audios = dom.select("audio");
 		for (Element audio : audios) {
 			boolean hasTranscript = audio.select("track[kind=transcript]").size() > 0;
 
@@ -467,7 +417,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		}
 
 		int issueCount = issueList.size();
-		int totalChecked = getTotalCheckedElements(doc);
+		int totalChecked = dom.checkedElements();
 		int successCount = totalChecked - issueCount;
 
 		// Update global counts
@@ -687,8 +637,9 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 	public GuidelineResponse infoAndRelationships(Document doc, String url) {
 
 		List<IssueDetails> issueList = new ArrayList<>();
+		DomIndex dom = staticRuleEngine.index(doc);
 
-		Elements formElements = doc.select("form");
+		Elements formElements = dom.select("form");
 		for (Element form : formElements) {
 
 			Elements requiredFields = form.select("input[required], select[required], textarea[required]");
@@ -708,7 +659,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 			}
 		}
 
-		Elements tables = doc.select("table");
+		Elements tables = dom.select("table");
 		for (Element table : tables) {
 
 			boolean headers = table.select("th").size() > 0;
@@ -724,7 +675,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 			}
 		}
 
-		Elements listElements = doc.select("ul, ol");
+		Elements listElements = dom.select("ul", "ol");
 		for (Element list : listElements) {
 
 			Elements listItems = list.select("li");
@@ -736,7 +687,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 			}
 		}
 
-		Elements menuElements = doc.select("[id*=menu], [class*=menu]");
+		Elements menuElements = dom.withAttributeContaining("menu", "id", "class");
 		for (Element menu : menuElements) {
 
 			boolean insideNav = menu.parents().stream().anyMatch(parent -> parent.tagName().equals("nav"));
@@ -750,7 +701,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 			}
 		}
 		int issueCount = issueList.size();
-		int totalChecked = getTotalCheckedElements(doc);
+		int totalChecked = dom.checkedElements();
 		int successCount = totalChecked - issueCount;
 
 		// Update global counts
@@ -817,9 +768,10 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 	public GuidelineResponse meaningfulSequence(Document doc) {
 
 		List<IssueDetails> issueList = new ArrayList<>();
+		DomIndex dom = staticRuleEngine.index(doc);
 
-		Elements elements = doc
-				.select("div, section, header, footer, article, aside, nav, main, h1, h2, h3, p, ol, ul, li, table");
+		Elements elements = dom.select("div", "section", "header", "footer", "article", "aside", "nav", "main", "h1",
+				"h2", "h3", "p", "ol", "ul", "li", "table");
 		for (Element element : elements) {
 
 			boolean isValidSequence = true;
@@ -847,7 +799,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 			}
 		}
 
-		Elements navigationSections = doc.select("nav, header, footer");
+		Elements navigationSections = dom.select("nav", "header", "footer");
 		for (Element section : navigationSections) {
 
 			boolean isNavigationSectionValid = true;
@@ -878,7 +830,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 
 		// Calculate issue and success count
 		int issueCount = issueList.size();
-		int totalChecked = getTotalCheckedElements(doc);
+		int totalChecked = dom.checkedElements();
 		int successCount = totalChecked - issueCount;
 
 		// Update global counts
@@ -895,7 +847,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 
 		List<IssueDetails> issueList = new ArrayList<>();
 
-		Elements instructionsElements = doc.select("p, li, div, span, a");
+		Elements instructionsElements = staticRuleEngine.index(doc).select("p", "li", "div", "span", "a");
 		for (Element element : instructionsElements) {
 
 			String instructionText = element.text().toLowerCase();
@@ -1016,7 +968,8 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 	public GuidelineResponse useOfColor(Document doc) {
 		List<IssueDetails> issueList = new ArrayList<>();
 
-		Elements visualElements = doc.select("p, li, div, span, a, button, input, table");
+		Elements visualElements = staticRuleEngine.index(doc).select("p", "li", "div", "span", "a", "button", "input",
+				"table");
 
 		for (Element element : visualElements) {
 			String style = element.attr("style").toLowerCase();
@@ -1132,8 +1085,11 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 
 	private void checkAudioForAutoPlay(Document doc, List<IssueDetails> issuesList, String accessibilityLevel) {
 		try {
-			Elements audios = doc.select("audio[autoplay]");
+			Elements audios = staticRuleEngine.index(doc).select("audio");
 			for (Element audio : audios) {
+				if (!audio.hasAttr("autoplay")) {
+					continue;
+				}
 
 				if (audio.attr("autoplay") != null) {
 					String key = "Audio automatically plays for more than 3 seconds";
@@ -1147,7 +1103,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 
 	private void checkForAudioControlMechanism(Document doc, List<IssueDetails> issuesList, String accessibilityLevel) {
 		try {
-			Elements audios = doc.select("audio");
+			Elements audios = staticRuleEngine.index(doc).select("audio");
 			for (Element audio : audios) {
 				boolean hasControl = audio.hasAttr("controls");
 				boolean hasVolumeControl = audio.select("input[type='range'][aria-label='volume']").size() > 0;
@@ -1164,7 +1120,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 
 	private int getTotalCheckedElementsForAudio(Document doc) {
 		try {
-			return doc.select("audio").size();
+			return staticRuleEngine.index(doc).select("audio").size();
 		} catch (Exception e) {
 			logger.error("Error calculating total checked audio elements", e);
 			return 0;
@@ -1177,9 +1133,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver();
-
-			driver.get(url);
+			driver = WebDriverFactory.getDriver(url);
 
 			List<WebElement> imageElements = driver.findElements(By.tagName("img"));
 
@@ -1232,9 +1186,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver();
-
-			driver.get(url);
+			driver = WebDriverFactory.getDriver(url);
 
 			List<WebElement> interactiveElements = driver.findElements(
 					By.cssSelector("a, button, input, textarea, select, [tabindex], [role='button'], [role='link']"));
@@ -1291,42 +1243,27 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 	@Override
 	public GuidelineResponse validateNoKeyboardTrap(Document doc, String url) {
 
-		WebDriver driver = null;
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver();
-
-			driver.get(url);
-
-			List<WebElement> focusTrapElements = driver
-					.findElements(By.cssSelector("div[role='dialog'], modal, .focus-trap"));
-
-			;
-
-			for (WebElement element : focusTrapElements) {
-
-				try {
-					if (!element.isDisplayed() || !element.isEnabled()) {
-						logger.debug("Skipping non-visible or disabled element: {}", element.getTagName());
-						continue;
-					}
-
-					boolean isFocusTrap = isFocusTrapped(element);
+			FocusWalk walk = WebDriverFactory.getFocusWalk(url);
 
-					if (isFocusTrap) {
-						status = false;
-						String key = "The element traps the keyboard focus and does not allow users to exit the component";
-						iGuidelineDataTransformer.addIssue(issueList, element, element.getText(),
-								"The element traps the keyboard focus and does not allow users to exit the component.",
-								getFix(key));
-					}
-				} catch (Exception e) {
+			for (FocusWalk.Container container : walk.getContainers()) {
+				if (!container.isDisplayed() || !container.isEnabled()) {
+					logger.debug("Skipping non-visible or disabled element: {}", container.getTagName());
+					continue;
+				}
 
+				if (container.isTrapped()) {
+					status = false;
+					String key = "The element traps the keyboard focus and does not allow users to exit the component";
+					iGuidelineDataTransformer.addIssue(issueList, container, container.getText(),
+							"The element traps the keyboard focus and does not allow users to exit the component.",
+							getFix(key));
 				}
 			}
 		} catch (Exception e) {
-
+			logger.error("Error checking keyboard traps: {}", e.getMessage(), e);
 		}
 		int issueCount = issueList.size();
 		int totalChecked = getTotalCheckedElements(doc);
@@ -1338,25 +1275,6 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 				level, wcagVersion, issueList, status, successCount, issueCount);
 	}
 
-	private boolean isFocusTrapped(WebElement element) {
-		try {
-			List<WebElement> focusableElements = element
-					.findElements(By.cssSelector("a, button, input, textarea, select, [tabindex]"));
-
-			if (focusableElements.size() < 2) {
-				return false;
-			}
-
-			WebElement firstFocusable = focusableElements.get(0);
-			WebElement lastFocusable = focusableElements.get(focusableElements.size() - 1);
-
-			return firstFocusable.equals(lastFocusable);
-		} catch (Exception e) {
-			logger.error("Error checking if focus is trapped: {}", e.getMessage(), e);
-			return false;
-		}
-	}
-
 	@Override
 	public GuidelineResponse validateTimingAdjustable(Document doc, String url) {
 
@@ -1364,9 +1282,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver();
-
-			driver.get(url);
+			driver = WebDriverFactory.getDriver(url);
 
 			List<WebElement> timedElements = driver.findElements(By
 					.cssSelector("[data-timer], [role='alert'], [data-time-limit], [class*='timer'], [id*='timeout']"));
@@ -1436,9 +1352,8 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver();
+			driver = WebDriverFactory.getDriver(url);
 
-			driver.get(url);
 			logger.info("Navigated to URL: {}", url);
 
 			List<WebElement> dynamicElements = driver.findElements(By.cssSelector(
@@ -1510,8 +1425,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver();
-			driver.get(url);
+			driver = WebDriverFactory.getDriver(url);
 
 			if (isFlashingContentExceedsThreshold(driver)) {
 				status = false;
@@ -1665,28 +1579,45 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver();
-			driver.get(url);
+			driver = WebDriverFactory.getDriver(url);
 
-			String pageTitle = driver.getTitle();
+			checkPageTitle(issueList, doc, driver.getTitle());
+		} catch (Exception e) {
+			logger.error("Error during WebDriver initialization or navigation: {}", e.getMessage(), e);
+		}
 
-			if (pageTitle == null || pageTitle.trim().isEmpty()) {
-				status = false;
-				addIssue(issueList, doc, "No title found for the page.", pageTitle);
-			} else {
+		return pageTitleResponse(doc, issueList);
+	}
 
-				if (pageTitle.equals("Untitled") || pageTitle.toLowerCase().contains("index")
-						|| pageTitle.toLowerCase().contains("home")) {
-					status = false;
-					addIssue(issueList, doc,
-							"Title is not descriptive. Consider updating the title to reflect the content or purpose of the page.",
-							pageTitle);
-				}
+	/**
+	 * DOM-only variant of {@link #evaluatePageTitle(Document, String)} for
+	 * static scans: reads the title element of the fetched document instead of
+	 * the title of the rendered page.
+	 */
+	@Override
+	public GuidelineResponse evaluatePageTitle(Document doc) {
+		List<IssueDetails> issueList = new ArrayList<>();
+		checkPageTitle(issueList, doc, doc.title());
+		return pageTitleResponse(doc, issueList);
+	}
+
+	private void checkPageTitle(List<IssueDetails> issueList, Document doc, String pageTitle) {
+		if (pageTitle == null || pageTitle.trim().isEmpty()) {
+			status = false;
+			addIssue(issueList, doc, "No title found for the page.", pageTitle);
+		} else {
+
+			if (pageTitle.equals("Untitled") || pageTitle.toLowerCase().contains("index")
+					|| pageTitle.toLowerCase().contains("home")) {
+				status = false;
+				addIssue(issueList, doc,
+						"Title is not descriptive. Consider updating the title to reflect the content or purpose of the page.",
+						pageTitle);
 			}
-		} catch (Exception e) {
-			logger.error("Error during WebDriver initialization or navigation: {}", e.getMessage(), e);
 		}
+	}
 
+	private GuidelineResponse pageTitleResponse(Document doc, List<IssueDetails> issueList) {
 		int issueCount = issueList.size();
 		int totalChecked = getTotalCheckedElements(doc);
 		int successCount = totalChecked - issueCount;
@@ -1711,41 +1642,35 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 	@Override
 	public GuidelineResponse evaluateFocusOrder(Document doc, String url) {
 
-		WebDriver driver = null;
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver();
-			driver.get(url);
-
-			Elements focusableElements = doc.select("a, button, input, select, textarea, [tabindex]");
-			for (Element element : focusableElements) {
-
-				String cssSelector = generateValidCssSelector((WebElement) element);
-				if (cssSelector == null || cssSelector.isEmpty()) {
-
-					continue;
+			FocusWalk walk = WebDriverFactory.getFocusWalk(url);
+
+			// Tabbable elements in document order, to compare with the order Tab
+			// actually visits them in.
+			List<FocusWalk.Target> documentOrder = new ArrayList<>();
+			for (FocusWalk.Target target : walk.getTargets()) {
+				if (target.isInTabOrder()) {
+					documentOrder.add(target);
 				}
+			}
+			List<FocusWalk.Target> tabOrder = walk.getTabOrder();
 
-				try {
-					WebElement seleniumElement = driver.findElement(By.cssSelector(cssSelector));
-					int tabindex = getTabindex(seleniumElement);
-
-					if (tabindex != Integer.MAX_VALUE) {
-
-						boolean isTabOrderCorrect = checkTabOrder(seleniumElement, tabindex, driver);
-
-						if (!isTabOrderCorrect) {
-							status = false;
-							addIssue(issueList, element, tabindex);
-						}
-					}
-				} catch (Exception e) {
+			for (int i = 0; i < tabOrder.size(); i++) {
+				FocusWalk.Target target = tabOrder.get(i);
+				int tabindex = getTabindex(target);
 
+				// Only a positive tabindex can pull an element out of document
+				// order; the elements it displaces are not at fault.
+				if (target.isFocusOrderCandidate() && tabindex > 0 && tabindex != Integer.MAX_VALUE
+						&& documentOrder.get(i) != target) {
+					status = false;
+					addIssue(issueList, target, tabindex);
 				}
 			}
 		} catch (Exception e) {
-
+			logger.error("Error evaluating focus order: {}", e.getMessage(), e);
 		}
 		int issueCount = issueList.size();
 		int totalChecked = getTotalCheckedElements(doc);
@@ -1758,73 +1683,22 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 				status, successCount, issueCount);
 	}
 
-	private String generateValidCssSelector(WebElement field) {
+	private int getTabindex(FocusWalk.Target target) {
 		try {
-			String cssSelector = ((Element) field).cssSelector();
-			return (cssSelector != null && !cssSelector.trim().isEmpty()) ? cssSelector : null;
-		} catch (Exception e) {
-
-			return null;
-		}
-	}
-
-	private int getTabindex(WebElement element) {
-		try {
-			String tabindexStr = element.getAttribute("tabindex");
-			return (tabindexStr != null) ? Integer.parseInt(tabindexStr) : Integer.MAX_VALUE;
+			String tabindexStr = target.getTabindex();
+			return (tabindexStr != null) ? Integer.parseInt(tabindexStr.trim()) : Integer.MAX_VALUE;
 		} catch (NumberFormatException e) {
 
 			return Integer.MAX_VALUE;
 		}
 	}
 
-	private boolean checkTabOrder(WebElement element, int tabindex, WebDriver driver) {
-
-		List<WebElement> focusableElements = driver
-				.findElements(By.cssSelector("a, button, input, select, textarea, [tabindex]"));
-
-		int currentPosition = focusableElements.indexOf(element);
-
-		if (currentPosition == -1) {
-
-			return false;
-		}
-
-		for (int i = 0; i < focusableElements.size(); i++) {
-			WebElement focusableElement = focusableElements.get(i);
-			int currentTabindex = getTabindex(focusableElement);
-
-			if (currentTabindex == -1) {
-				currentTabindex = 0;
-			}
-
-			if (i == currentPosition) {
-				continue;
-			}
-
-			if (i > currentPosition) {
-				int nextTabindex = getTabindex(focusableElements.get(i));
-
-				if (nextTabindex == -1) {
-					nextTabindex = 0;
-				}
-
-				if (nextTabindex < currentTabindex) {
-
-					return false;
-				}
-			}
-		}
-
-		return true;
-	}
-
-	private void addIssue(List<IssueDetails> issueList, Element element, int tabindex) {
+	private void addIssue(List<IssueDetails> issueList, FocusWalk.Target target, int tabindex) {
 //		TODO TITLE -->Tabindex value is incorrect for an element.
 		String key = "Tabindex value is incorrect for an element";
 		String issueMessage = "The tabindex value of %d is incorrect for element: %s".formatted(tabindex,
-				element.tagName());
-		iGuidelineDataTransformer.addIssueUsingJsoup(issueList, element, element.toString(), issueMessage, getFix(key));
+				target.getTagName());
+		iGuidelineDataTransformer.addIssue(issueList, target, target.getHtml(), issueMessage, getFix(key));
 	}
 
 	@Override
@@ -1899,8 +1773,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver();
-			driver.get(url);
+			driver = WebDriverFactory.getDriver(url);
 
 			List<WebElement> htmlElements = driver.findElements(By.cssSelector("html"));
 
@@ -1926,6 +1799,37 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		} catch (Exception e) {
 		}
 
+		return languageOfPageResponse(doc, issueList);
+	}
+
+	/**
+	 * DOM-only variant of {@link #validateLanguageOfPage(Document, String)}
+	 * for static scans: checks the lang attribute of the fetched document's
+	 * root element.
+	 */
+	@Override
+	public GuidelineResponse validateLanguageOfPage(Document doc) {
+		List<IssueDetails> issueList = new ArrayList<>();
+
+		for (Element htmlElement : doc.select("html")) {
+			String langAttribute = htmlElement.attr("lang");
+			if (langAttribute.trim().isEmpty()) {
+				status = false;
+				String key = "The <html> element is missing the lang attribute";
+				iGuidelineDataTransformer.addRenderedIssue(issueList, htmlElement, "",
+						"The <html> element is missing the lang attribute.", getFix(key));
+			} else if (!isValidLanguageTag(langAttribute)) {
+				status = false;
+				String key = "The lang attribute on the <html> element contains an invalid language tag";
+				iGuidelineDataTransformer.addRenderedIssue(issueList, htmlElement, langAttribute,
+						"The lang attribute on the <html> element contains an invalid language tag.", getFix(key));
+			}
+		}
+
+		return languageOfPageResponse(doc, issueList);
+	}
+
+	private GuidelineResponse languageOfPageResponse(Document doc, List<IssueDetails> issueList) {
 		int issueCount = issueList.size();
 		int totalChecked = getTotalCheckedElements(doc);
 		int successCount = totalChecked - issueCount;
@@ -1955,8 +1859,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		boolean status = true; // Default status as true
 
 		try {
-			driver = WebDriverFactory.getDriver();
-			driver.get(url);
+			driver = WebDriverFactory.getDriver(url);
 			logger.info("Navigated to URL: {}", url);
 
 			// Find all focusable elements
@@ -2008,8 +1911,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver();
-			driver.get(url);
+			driver = WebDriverFactory.getDriver(url);
 
 			List<WebElement> interactiveElements = driver.findElements(By
 					.xpath("//*[self::select or self::input or self::textarea or @onchange or @onclick or @oninput]"));
@@ -2070,8 +1972,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 
 		try {
 
-			driver = WebDriverFactory.getDriver();
-			driver.get(url);
+			driver = WebDriverFactory.getDriver(url);
 			logger.info("Navigated to URL: {}", url);
 
 			List<WebElement> inputElements = driver.findElements(By.cssSelector("input, select, textarea"));
@@ -2127,8 +2028,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver();
-			driver.get(url);
+			driver = WebDriverFactory.getDriver(url);
 			logger.info("Navigated to URL: {}", url);
 
 			// Find all form input elements (input, select, textarea)
@@ -2255,8 +2155,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver();
-			driver.get(url);
+			driver = WebDriverFactory.getDriver(url);
 			logger.info("Navigated to URL: {}", url);
 
 			// Find all interactive elements (e.g., form elements, links, and ARIA
@@ -2347,8 +2246,7 @@ public class AccessibilityGuidelinesServiceImpl_2_0_A implements WcagAccessibili
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver();
-			driver.get(url);
+			driver = WebDriverFactory.getDriver(url);
 			logger.info("Navigated to URL: {}", url);
 
 			// Retrieve the document source code
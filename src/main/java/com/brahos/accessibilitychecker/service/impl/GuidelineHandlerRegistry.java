@@ -0,0 +1,407 @@
+package com.brahos.accessibilitychecker.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import org.jsoup.nodes.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.brahos.accessibilitychecker.model.GuidelineHandler;
+import com.brahos.accessibilitychecker.model.GuidelineHandler.Cost;
+import com.brahos.accessibilitychecker.model.GuidelineHandler.Dependency;
+import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.brahos.accessibilitychecker.service.WcagAccessibilityGuidelines_2_0_AA;
+import com.brahos.accessibilitychecker.service.WcagAccessibilityGuidelines_2_0_AAA;
+import com.brahos.accessibilitychecker_enum.WcagGuidelineA;
+
+/**
+ * Every guideline rule with its WCAG criterion, level, cost class and the
+ * per-page data it depends on. Built once at startup; the executor picks its
+ * handlers from here instead of rebuilding handler lists on every call.
+ */
+@Component
+public class GuidelineHandlerRegistry {
+
+	private static final Logger logger = LoggerFactory.getLogger(GuidelineHandlerRegistry.class);
+
+	public static final List<String> LEVELS = List.of("A", "AA", "AAA");
+
+	private final Map<String, List<GuidelineHandler>> handlersByLevel;
+
+	public GuidelineHandlerRegistry(AccessibilityGuidelinesServiceImpl_2_0_A levelA,
+			WcagAccessibilityGuidelines_2_0_AA levelAA, WcagAccessibilityGuidelines_2_0_AAA levelAAA) {
+		Map<String, List<GuidelineHandler>> handlers = new LinkedHashMap<>();
+		handlers.put("A", levelA(levelA));
+		handlers.put("AA", levelAA(levelAA));
+		handlers.put("AAA", levelAAA(levelAAA));
+		this.handlersByLevel = handlers;
+		validate();
+	}
+
+	/**
+	 * Handlers of exactly the given level, in registration order, as run by a
+	 * browser-backed scan.
+	 */
+	public List<GuidelineHandler> forLevel(String level) {
+		List<GuidelineHandler> handlers = handlersByLevel.get(level);
+		if (handlers == null) {
+			throw new IllegalArgumentException("Unsupported WCAG level: " + level);
+		}
+		return handlers.stream().filter(handler -> !handler.isStaticVariant()).toList();
+	}
+
+	/**
+	 * Handlers of the given level and every level below it, lowest level
+	 * first, as run by a browser-backed scan.
+	 */
+	public List<GuidelineHandler> upToLevel(String level) {
+		return upToLevel(level, false);
+	}
+
+	/**
+	 * Handlers of the given level and every level below it, lowest level
+	 * first. A static scan gets only the handlers that read the Jsoup document
+	 * alone, including the DOM-only variants of browser rules; a
+	 * browser-backed scan gets every rule except those variants.
+	 */
+	public List<GuidelineHandler> upToLevel(String level, boolean staticOnly) {
+		int last = LEVELS.indexOf(level);
+		if (last < 0) {
+			throw new IllegalArgumentException("Unsupported WCAG level: " + level);
+		}
+		List<GuidelineHandler> handlers = new ArrayList<>();
+		for (int i = 0; i <= last; i++) {
+			for (GuidelineHandler handler : handlersByLevel.get(LEVELS.get(i))) {
+				if (staticOnly ? !handler.isRequiresUrl() : !handler.isStaticVariant()) {
+					handlers.add(handler);
+				}
+			}
+		}
+		return handlers;
+	}
+
+	/**
+	 * Handlers evaluating the requested success criteria at or below the
+	 * given level, in registration order. Criteria are matched by number
+	 * ("1.4.3") or guideline title ("1.4.3 Contrast (Minimum)"), ignoring
+	 * case.
+	 *
+	 * @throws IllegalArgumentException if a criterion is not evaluated at
+	 *                                  that level
+	 */
+	public List<GuidelineHandler> select(String level, Collection<String> criteria) {
+		return select(level, criteria, false);
+	}
+
+	/**
+	 * As {@link #select(String, Collection)}, restricted to the handlers
+	 * {@link #upToLevel(String, boolean)} returns for the scan mode.
+	 *
+	 * @throws IllegalArgumentException if a criterion is not evaluated at
+	 *                                  that level, or needs a browser in a
+	 *                                  static scan
+	 */
+	public List<GuidelineHandler> select(String level, Collection<String> criteria, boolean staticOnly) {
+		List<GuidelineHandler> candidates = upToLevel(level, staticOnly);
+		List<GuidelineHandler> browserCandidates = staticOnly ? upToLevel(level) : List.of();
+		Set<String> unknown = new LinkedHashSet<>();
+		Set<String> browserOnly = new LinkedHashSet<>();
+		Set<GuidelineHandler> selected = new HashSet<>();
+		for (String criterion : criteria) {
+			String wanted = criterion == null ? "" : criterion.trim();
+			if (selectMatching(candidates, wanted, selected)) {
+				continue;
+			}
+			if (selectMatching(browserCandidates, wanted, new HashSet<>())) {
+				browserOnly.add(wanted);
+			} else {
+				unknown.add(wanted);
+			}
+		}
+		if (!unknown.isEmpty() || !browserOnly.isEmpty()) {
+			List<String> problems = new ArrayList<>();
+			if (!unknown.isEmpty()) {
+				problems.add("Unknown WCAG criteria for level " + level + ": " + unknown);
+			}
+			if (!browserOnly.isEmpty()) {
+				problems.add("WCAG criteria need a browser and cannot run in a static scan: " + browserOnly);
+			}
+			throw new IllegalArgumentException(String.join("; ", problems));
+		}
+		List<GuidelineHandler> handlers = new ArrayList<>();
+		for (GuidelineHandler handler : candidates) {
+			if (selected.contains(handler)) {
+				handlers.add(handler);
+			}
+		}
+		return handlers;
+	}
+
+	/**
+	 * Every registered handler, including the DOM-only variants.
+	 */
+	public List<GuidelineHandler> getAll() {
+		List<GuidelineHandler> handlers = new ArrayList<>();
+		handlersByLevel.values().forEach(handlers::addAll);
+		return handlers;
+	}
+
+	private static boolean selectMatching(List<GuidelineHandler> candidates, String wanted,
+			Set<GuidelineHandler> selected) {
+		boolean found = false;
+		for (GuidelineHandler handler : candidates) {
+			if (handler.getCriterion().equalsIgnoreCase(wanted) || handler.getGuideline().equalsIgnoreCase(wanted)) {
+				selected.add(handler);
+				found = true;
+			}
+		}
+		return found;
+	}
+
+	private void validate() {
+		Set<String> names = new HashSet<>();
+		Map<Cost, Integer> costs = new EnumMap<>(Cost.class);
+		for (GuidelineHandler handler : getAll()) {
+			if (!names.add(handler.getName())) {
+				throw new IllegalStateException("Duplicate guideline handler: " + handler.getName());
+			}
+			if (handler.getCriterion() == null || handler.getCriterion().isBlank() || handler.getCost() == null) {
+				throw new IllegalStateException("Guideline handler " + handler.getName() + " is missing metadata.");
+			}
+			if (!handler.isRequiresUrl() && (handler.isMutatesPage() || !handler.getDependencies().isEmpty())) {
+				throw new IllegalStateException(
+						"Static guideline handler " + handler.getName() + " cannot depend on the browser.");
+			}
+			if (handler.dependsOn(Dependency.FOCUS_WALK) != (handler.getCost() == Cost.PAGE_INTERACTION)) {
+				throw new IllegalStateException("Guideline handler " + handler.getName()
+						+ " must declare the focus walk exactly when its cost is PAGE_INTERACTION.");
+			}
+			if (handler.isStaticVariant() && handler.isRequiresUrl()) {
+				throw new IllegalStateException(
+						"DOM-only variant " + handler.getName() + " must be a static guideline handler.");
+			}
+			costs.merge(handler.getCost(), 1, Integer::sum);
+		}
+		logger.info("Registered {} guideline handlers by cost: {}.", names.size(), costs);
+	}
+
+	private static GuidelineHandler.GuidelineHandlerBuilder rule(String level, String name, String criterion,
+			String guideline, Cost cost, BiFunction<Document, String, GuidelineResponse> processor) {
+		return GuidelineHandler.builder().level(level).name(name).criterion(criterion).guideline(guideline)
+				.cost(cost).processor(processor);
+	}
+
+	private static List<GuidelineHandler> levelA(AccessibilityGuidelinesServiceImpl_2_0_A rules) {
+		String a = "A";
+		return List.of(
+				rule(a, "Non-text content", "1.1.1", WcagGuidelineA.NON_TEXT_CONTENT.getDescription(), Cost.STATIC,
+						(doc, u) -> rules.evaluateNonTextContent(doc)).build(),
+
+				rule(a, "Audio-video content", "1.2.1", WcagGuidelineA.AUDIO_ONLY_VIDEO_ONLY.getDescription(),
+						Cost.STATIC, (doc, u) -> rules.audioVideoOnlyContent(doc)).build(),
+
+				rule(a, "Captions Prerecorded", "1.2.2", WcagGuidelineA.CAPTIONS.getDescription(), Cost.STATIC,
+						(doc, u) -> rules.captionsPrerecorded(doc)).build(),
+
+				rule(a, "Audio Description or Media Alternative", "1.2.3",
+						WcagGuidelineA.AUDIO_DESCRIPTION.getDescription(), Cost.STATIC,
+						(doc, u) -> rules.audioDescriptionOrMediaAlternative(doc)).build(),
+
+				rule(a, "Info and Relationships", "1.3.1", WcagGuidelineA.INFORMATION_RELATIONSHIPS.getDescription(),
+						Cost.STATIC, (doc, u) -> rules.infoAndRelationships(doc, u)).build(),
+
+				rule(a, "Meaningful Sequence", "1.3.2", WcagGuidelineA.MEANINGFUL_SEQUENCE.getDescription(),
+						Cost.STATIC, (doc, u) -> rules.meaningfulSequence(doc)).build(),
+
+				rule(a, "Sensory Characteristics", "1.3.3", WcagGuidelineA.SENSORY_CHARACTERISTICS.getDescription(),
+						Cost.STATIC, (doc, u) -> rules.sensoryCharacteristics(doc)).build(),
+
+				rule(a, "Use of Color", "1.4.1", WcagGuidelineA.USE_OF_COLOR.getDescription(), Cost.STATIC,
+						(doc, u) -> rules.useOfColor(doc)).build(),
+
+				rule(a, "Evaluate Audio Control", "1.4.2", WcagGuidelineA.AUDIO_CONTROL.getDescription(), Cost.STATIC,
+						(doc, u) -> rules.evaluateAudioControl(doc)).build(),
+
+				rule(a, "validateKeyboardAccessibility", "2.1.1", WcagGuidelineA.KEYBOARD.getDescription(),
+						Cost.LIVE_BROWSER, (doc, u) -> rules.validateKeyboardAccessibility(doc, u)).build(),
+
+				rule(a, "validateNoKeyboardTrap", "2.1.2", WcagGuidelineA.NO_KEYBOARD_TRAP.getDescription(),
+						Cost.PAGE_INTERACTION, (doc, u) -> rules.validateNoKeyboardTrap(doc, u))
+						.dependencies(Set.of(Dependency.FOCUS_WALK)).build(),
+
+				rule(a, "validateTimingAdjustable", "2.2.1", WcagGuidelineA.TIMING_ADJUSTABLE.getDescription(),
+						Cost.LIVE_BROWSER, (doc, u) -> rules.validateTimingAdjustable(doc, u)).build(),
+
+				rule(a, "validatePauseStopHide", "2.2.2", WcagGuidelineA.PAUSE_STOP_HIDE.getDescription(),
+						Cost.LIVE_BROWSER, (doc, u) -> rules.validatePauseStopHide(doc, u)).build(),
+
+				rule(a, "validateFlashingContent", "2.3.1", WcagGuidelineA.THREE_FLASHES.getDescription(),
+						Cost.LIVE_BROWSER, (doc, u) -> rules.validateFlashingContent(doc, u)).build(),
+
+				rule(a, "validateBypassBlocks", "2.4.1", WcagGuidelineA.BYPASS_BLOCKS.getDescription(),
+						Cost.LIVE_BROWSER, (doc, u) -> rules.validateBypassBlocks(doc, u)).mutatesPage(true).build(),
+
+				rule(a, "evaluatePageTitle", "2.4.2", WcagGuidelineA.PAGE_TITLED.getDescription(), Cost.LIVE_BROWSER,
+						(doc, u) -> rules.evaluatePageTitle(doc, u)).build(),
+
+				rule(a, "evaluatePageTitle (DOM)", "2.4.2", WcagGuidelineA.PAGE_TITLED.getDescription(), Cost.STATIC,
+						(doc, u) -> rules.evaluatePageTitle(doc)).staticVariant(true).build(),
+
+				rule(a, "evaluateFocusOrder", "2.4.3", WcagGuidelineA.FOCUS_ORDER.getDescription(), Cost.PAGE_INTERACTION,
+						(doc, u) -> rules.evaluateFocusOrder(doc, u)).dependencies(Set.of(Dependency.FOCUS_WALK))
+						.build(),
+
+				rule(a, "evaluateLinkPurpose", "2.4.4", WcagGuidelineA.LINK_PURPOSE.getDescription(),
+						Cost.STATIC, (doc, u) -> rules.evaluateLinkPurpose(doc, u)).build(),
+
+				rule(a, "validateLanguageOfPage", "3.1.1", WcagGuidelineA.LANGUAGE_OF_PAGE.getDescription(),
+						Cost.LIVE_BROWSER, (doc, u) -> rules.validateLanguageOfPage(doc, u)).build(),
+
+				rule(a, "validateLanguageOfPage (DOM)", "3.1.1", WcagGuidelineA.LANGUAGE_OF_PAGE.getDescription(),
+						Cost.STATIC, (doc, u) -> rules.validateLanguageOfPage(doc)).staticVariant(true).build(),
+
+				rule(a, "validateOnFocus", "3.2.1", WcagGuidelineA.ON_FOCUS.getDescription(), Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateOnFocus(doc, u)).mutatesPage(true).build(),
+
+				rule(a, "validateOnInput", "3.2.2", WcagGuidelineA.ON_INPUT.getDescription(), Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateOnInput(doc, u)).mutatesPage(true).build(),
+
+				rule(a, "validateErrorIdentification", "3.3.1", WcagGuidelineA.ERROR_IDENTIFICATION.getDescription(),
+						Cost.LIVE_BROWSER, (doc, u) -> rules.validateErrorIdentification(doc, u)).build(),
+
+				rule(a, "validateLabelsOrInstructions", "3.3.2",
+						WcagGuidelineA.LABELS_OR_INSTRUCTIONS.getDescription(), Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateLabelsOrInstructions(doc, u)).build(),
+
+				rule(a, "validateParsing", "4.1.1", WcagGuidelineA.PARSING.getDescription(), Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateParsing(doc, u)).build(),
+
+				rule(a, "validateNameRoleValue", "4.1.2", WcagGuidelineA.NAME_ROLE_VALUE.getDescription(),
+						Cost.LIVE_BROWSER, (doc, u) -> rules.validateNameRoleValue(doc, u)).build());
+	}
+
+	private static List<GuidelineHandler> levelAA(WcagAccessibilityGuidelines_2_0_AA rules) {
+		String aa = "AA";
+		return List.of(
+				rule(aa, "Captions Live", "1.2.4", "1.2.4 Captions (Live)", Cost.STATIC,
+						(doc, u) -> rules.captionsLive(doc)).build(),
+				rule(aa, "Audio Description Prerecorded", "1.2.5", "1.2.5 Audio Description (Prerecorded)",
+						Cost.STATIC, (doc, u) -> rules.audioDescriptionPrerecorded(doc)).build(),
+				rule(aa, "evaluateTextContrast", "1.4.3", "1.4.3 Contrast (Minimum)", Cost.DOM_SNAPSHOT,
+						(doc, u) -> rules.evaluateTextContrast(doc, u)).build(),
+				rule(aa, "Resize Text", "1.4.4", "1.4.4 Resize Text", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.resizeText(doc, u)).build(),
+				rule(aa, "checkImagesOfText", "1.4.5", "1.4.5 Images of Text", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.checkImagesOfText(doc, u)).build(),
+				rule(aa, "checkMultipleWays", "2.4.5", "2.4.5 Multiple Ways", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.checkMultipleWays(doc, u)).build(),
+				rule(aa, "validateHeadingsAndLabels", "2.4.6", "2.4.6 Headings and Labels", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateHeadingsAndLabels(doc, u)).build(),
+				rule(aa, "validateFocusVisible", "2.4.7", "2.4.7 Focus Visible", Cost.PAGE_INTERACTION,
+						(doc, u) -> rules.validateFocusVisible(doc, u)).dependencies(Set.of(Dependency.FOCUS_WALK))
+						.build(),
+				rule(aa, "validateLanguageOfParts", "3.1.2", "3.1.2 Language of Parts", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateLanguageOfParts(doc, u)).build(),
+				rule(aa, "validateConsistentNavigation", "3.2.3", "3.2.3 Consistent Navigation", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateConsistentNavigation(doc, u)).mutatesPage(true).build(),
+				rule(aa, "validateConsistentIdentification", "3.2.4", "3.2.4 Consistent Identification",
+						Cost.LIVE_BROWSER, (doc, u) -> rules.validateConsistentIdentification(doc, u))
+						.mutatesPage(true).build(),
+				rule(aa, "validateErrorSuggestion", "3.3.3", "3.3.3 Error Suggestion", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateErrorSuggestion(doc, u)).mutatesPage(true).build(),
+				rule(aa, "validateErrorPreventionForCriticalActions", "3.3.4",
+						"Error Prevention (Legal, Financial, Data)", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateErrorPreventionForCriticalActions(doc, u)).build());
+	}
+
+	private static List<GuidelineHandler> levelAAA(WcagAccessibilityGuidelines_2_0_AAA rules) {
+		String aaa = "AAA";
+		return List.of(
+				rule(aaa, "Sign Language Prerecorded", "1.2.6", "1.2.6 Sign Language (Prerecorded)", Cost.STATIC,
+						(doc, u) -> rules.signLanguagePrerecorded(doc)).build(),
+
+				rule(aaa, "Extended Audio Description Prerecorded", "1.2.7",
+						"1.2.7 Extended Audio Description (Prerecorded)", Cost.STATIC,
+						(doc, u) -> rules.extendedAudioDescriptionPrerecorded(doc)).build(),
+
+				rule(aaa, "Media Alternative Prerecorded", "1.2.8", "1.2.8 Media Alternative (Prerecorded)",
+						Cost.STATIC, (doc, u) -> rules.mediaAlternativePrerecorded(doc)).build(),
+
+				rule(aaa, "Audio Only Live", "1.2.9", "1.2.9 Audio-only (Live)", Cost.STATIC,
+						(doc, u) -> rules.audioOnlyLive(doc)).build(),
+
+				rule(aaa, "validateContrastEnhancedLevelAAA", "1.4.6", "1.4.6 Contrast (Enhanced)", Cost.DOM_SNAPSHOT,
+						(doc, u) -> rules.validateContrastEnhancedLevelAAA(doc, u)).build(),
+
+				rule(aaa, "validateLowOrNoBackgroundAudio", "1.4.7", "1.4.7 Low or No Background Audio",
+						Cost.NETWORK_MEDIA, (doc, u) -> rules.validateLowOrNoBackgroundAudio(doc, u)).build(),
+
+				rule(aaa, "validateVisualPresentation", "1.4.8", "1.4.8 Visual Presentation", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateVisualPresentation(doc, u)).mutatesPage(true).build(),
+
+				rule(aaa, "Images of Text (No Exception)", "1.4.9", "1.4.9 Images of Text (No Exception)",
+						Cost.LIVE_BROWSER, (doc, u) -> rules.evaluateImagesOfText(doc, u)).build(),
+
+				rule(aaa, "validateKeyboardAccessibilityNoException", "2.1.3",
+						"2.1.3 Keyboard (No Exception) (Level AAA)", Cost.PAGE_INTERACTION,
+						(doc, u) -> rules.validateKeyboardAccessibilityNoException(doc, u))
+						.dependencies(Set.of(Dependency.FOCUS_WALK)).build(),
+
+				rule(aaa, "validateNoTiming", "2.2.3", "2.2.3 No Timing (Level AAA)", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateNoTiming(doc, u)).build(),
+
+				rule(aaa, "validateInterruptions", "2.2.4", "2.2.4 Interruptions (Level AAA)", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateInterruptions(doc, u)).build(),
+
+				rule(aaa, "validateReauthentication", "2.2.5", "2.2.5 Re-authenticating (Level AAA)",
+						Cost.LIVE_BROWSER, (doc, u) -> rules.validateReauthentication(doc, u)).mutatesPage(true)
+						.build(),
+
+				rule(aaa, "validateFlashingContentAAA", "2.3.2", "2.3.2 Three Flashes (Level AAA)", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateFlashingContentAAA(doc, u)).build(),
+
+				rule(aaa, "validateLocation", "2.4.8", "2.4.8 Location", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateLocation(doc, u)).build(),
+
+				rule(aaa, "validateLinkPurpose", "2.4.9", "2.4.9 Link Purpose (Link Only)", Cost.DOM_SNAPSHOT,
+						(doc, u) -> rules.validateLinkPurpose(doc, u)).dependencies(Set.of(Dependency.RENDERED_DOM))
+						.build(),
+
+				rule(aaa, "validateSectionHeadings", "2.4.10", "2.4.10 Section Headings", Cost.DOM_SNAPSHOT,
+						(doc, u) -> rules.validateSectionHeadings(doc, u))
+						.dependencies(Set.of(Dependency.RENDERED_DOM)).build(),
+
+				rule(aaa, "validateUnusualWords", "3.1.3", "3.1.3 Unusual Words", Cost.DOM_SNAPSHOT,
+						(doc, u) -> rules.validateUnusualWords(doc, u)).dependencies(Set.of(Dependency.RENDERED_DOM))
+						.build(),
+
+				rule(aaa, "validateAbbreviations", "3.1.4", "3.1.4 Abbreviations", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateAbbreviations(doc, u)).build(),
+
+				rule(aaa, "validateReadingLevel", "3.1.5", "3.1.5 Reading Level", Cost.DOM_SNAPSHOT,
+						(doc, u) -> rules.validateReadingLevel(doc, u)).dependencies(Set.of(Dependency.RENDERED_DOM))
+						.build(),
+
+				rule(aaa, "validatePronunciation", "3.1.6", "3.1.6 Pronunciation", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validatePronunciation(doc, u)).build(),
+
+				rule(aaa, "validateChangeOnRequest", "3.2.5", "3.2.5 Change on Request", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateChangeOnRequest(doc, u)).build(),
+
+				rule(aaa, "validateContextSensitiveHelp", "3.3.5", "3.3.5 Help", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateContextSensitiveHelp(doc, u)).build(),
+
+				rule(aaa, "validateAllErrorPrevention", "3.3.6", "3.3.6 Error Prevention (All)", Cost.LIVE_BROWSER,
+						(doc, u) -> rules.validateAllErrorPrevention(doc, u)).build());
+	}
+}
@@ -0,0 +1,388 @@
+package com.brahos.accessibilitychecker.service.impl;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.brahos.accessibilitychecker.model.ScanDataResponse;
+import com.brahos.accessibilitychecker.model.ScanJob;
+import com.brahos.accessibilitychecker.model.ScanJobPage;
+import com.brahos.accessibilitychecker.model.ScanOptions;
+import com.brahos.accessibilitychecker.model.ScanSummary;
+import com.brahos.accessibilitychecker.repository.AccessibilityCheckerScanResponseRepository;
+import com.brahos.accessibilitychecker.repository.ScanJobRepository;
+import com.brahos.accessibilitychecker.repository.ScanResultWriter;
+import com.brahos.accessibilitychecker.service.ScanJobService;
+import com.brahos.accessibilitychecker.service.ScanListener;
+import com.brahos.accessibilitychecker.utility.FetchedPage;
+import com.brahos.accessibilitychecker.utility.PageFetcher;
+import com.brahos.accessibilitychecker.utility.PageResultCache;
+import com.brahos.accessibilitychecker.utility.ScanPipeline;
+import com.brahos.accessibilitychecker.utility.WcagGuidelines_2_0_AllVersion;
+import com.brahos.accessibilitychecker.utility.WebDriverFactory;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class ScanJobServiceImpl implements ScanJobService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ScanJobServiceImpl.class);
+
+	private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+	@Value("${scan.jobs.max-concurrent:2}")
+	private int maxConcurrentJobs;
+
+	@Value("${scan.stream.max-concurrent:4}")
+	private int maxConcurrentStreams;
+
+	/**
+	 * Marks jobs a previous run of the service left queued or running as
+	 * failed. Turn off when several instances share the scan_jobs collection.
+	 */
+	@Value("${scan.jobs.recover-on-startup:true}")
+	private boolean recoverOnStartup;
+
+	private final ScanJobRepository scanJobRepository;
+	private final AccessibilityCheckerScanResponseRepository scanResponseRepository;
+	private final WcagGuidelines_2_0_AllVersion wcagGuidelines_2_0_AllVersion;
+	private final ScanPipeline scanPipeline;
+	private final PageResultCache pageResultCache;
+	private final PageFetcher pageFetcher;
+	private final ScanResultWriter scanResultWriter;
+	private final MongoTemplate mongoTemplate;
+
+	private ExecutorService executor;
+	private ExecutorService streamExecutor;
+
+	public ScanJobServiceImpl(ScanJobRepository scanJobRepository,
+			AccessibilityCheckerScanResponseRepository scanResponseRepository,
+			WcagGuidelines_2_0_AllVersion wcagGuidelines_2_0_AllVersion, ScanPipeline scanPipeline,
+			PageResultCache pageResultCache, PageFetcher pageFetcher, ScanResultWriter scanResultWriter,
+			MongoTemplate mongoTemplate) {
+		this.scanJobRepository = scanJobRepository;
+		this.scanResponseRepository = scanResponseRepository;
+		this.wcagGuidelines_2_0_AllVersion = wcagGuidelines_2_0_AllVersion;
+		this.scanPipeline = scanPipeline;
+		this.pageResultCache = pageResultCache;
+		this.pageFetcher = pageFetcher;
+		this.scanResultWriter = scanResultWriter;
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	@PostConstruct
+	public void init() {
+		AtomicInteger threadCount = new AtomicInteger();
+		executor = Executors.newFixedThreadPool(Math.max(1, maxConcurrentJobs), r -> {
+			Thread thread = new Thread(r, "scan-job-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		AtomicInteger streamCount = new AtomicInteger();
+		streamExecutor = Executors.newFixedThreadPool(Math.max(1, maxConcurrentStreams), r -> {
+			Thread thread = new Thread(r, "scan-stream-" + streamCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			mongoTemplate.indexOps(ScanJobPage.class).ensureIndex(new Index().on("jobId", Sort.Direction.ASC)
+					.on("index", Sort.Direction.ASC).unique().named("jobId_index"));
+		} catch (RuntimeException e) {
+			logger.warn("Could not create the scan_job_pages index: {}", e.getMessage());
+		}
+		if (recoverOnStartup) {
+			failInterruptedJobs();
+		}
+	}
+
+	/**
+	 * Jobs only run in memory, so a job still queued or running at startup was
+	 * cut off by a restart and would otherwise report progress forever.
+	 */
+	private void failInterruptedJobs() {
+		List<ScanJob> interrupted;
+		try {
+			interrupted = scanJobRepository.findByStatusIn(List.of(ScanJob.Status.QUEUED, ScanJob.Status.RUNNING));
+		} catch (RuntimeException e) {
+			logger.warn("Could not look up scan jobs interrupted by a restart.", e);
+			return;
+		}
+		for (ScanJob job : interrupted) {
+			try {
+				long cutOff = mongoTemplate.updateMulti(
+						new Query(Criteria.where("jobId").is(job.getId()).and("state")
+								.in(ScanJobPage.State.PENDING, ScanJobPage.State.RUNNING)),
+						new Update().set("state", ScanJobPage.State.FAILED).set("error",
+								"The scan was interrupted by a restart."),
+						ScanJobPage.class).getModifiedCount();
+				mongoTemplate.updateFirst(new Query(Criteria.where("id").is(job.getId())),
+						new Update().inc("pagesDone", cutOff).inc("pagesFailed", cutOff)
+								.set("status", ScanJob.Status.FAILED)
+								.set("message", "The scan was interrupted by a restart; submit it again.")
+								.set("updatedAt", now()),
+						ScanJob.class);
+			} catch (RuntimeException e) {
+				logger.warn("Could not mark interrupted scan job {} failed.", job.getId(), e);
+				continue;
+			}
+			logger.warn("Scan job {} was interrupted by a restart and is marked failed.", job.getId());
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+		streamExecutor.shutdownNow();
+	}
+
+	@Override
+	public ScanJob submit(String scanId, ScanDataResponse scanData, List<URI> pages, ScanOptions options) {
+		String now = now();
+		ScanJob job = ScanJob.builder().id(new ObjectId().toHexString()).scanId(scanId)
+				.version(scanData.getVersion()).level(scanData.getLevel()).criteria(options.getCriteria())
+				.staticOnly(options.isStaticOnly()).status(ScanJob.Status.QUEUED)
+				.totalPages(pages.size()).createdAt(now).updatedAt(now).build();
+		List<String> urls = scanData.getUrls();
+		for (int i = 0; i < urls.size(); i++) {
+			ScanJobPage page = new ScanJobPage(job.getId(), i, urls.get(i));
+			page.setId(new ObjectId().toHexString());
+			job.getPages().add(page);
+		}
+		// Pages first, so the job is never visible without them
+		mongoTemplate.insert(new ArrayList<>(job.getPages()), ScanJobPage.class);
+		scanJobRepository.save(job);
+
+		executor.submit(() -> runJob(job, pages));
+		logger.info("Queued scan job {} for Scan ID {} ({} pages).", job.getId(), scanId, pages.size());
+		return job;
+	}
+
+	@Override
+	public Future<?> stream(String scanId, ScanDataResponse scanData, List<URI> pages, ScanOptions options,
+			ScanListener listener) {
+		return streamExecutor.submit(() -> runStream(scanId, scanData, pages, options, listener));
+	}
+
+	@Override
+	public Optional<ScanJob> getJob(String jobId) {
+		return scanJobRepository.findById(jobId).map(job -> {
+			job.setPages(mongoTemplate.find(
+					new Query(Criteria.where("jobId").is(jobId)).with(Sort.by("index")), ScanJobPage.class));
+			return job;
+		});
+	}
+
+	@Override
+	public List<GuidelineResponse> getResults(String jobId) {
+		return scanResponseRepository.findByJobId(jobId);
+	}
+
+	private void runJob(ScanJob job, List<URI> pages) {
+		saveStatus(job, ScanJob.Status.RUNNING, null);
+		try {
+			scanPipeline.run(pages, job.isStaticOnly(), (index, uri) -> {
+				scanPage(job, index, uri);
+				return null;
+			});
+			// Job results are read back by job id, so they must be stored
+			// before the job reports completion; pages whose result was lost
+			// are reported as failed
+			List<String> unsaved = scanResultWriter.flush(job.getId());
+			failUnsaved(job, unsaved);
+			int failed = pagesFailed(job);
+			saveStatus(job, ScanJob.Status.COMPLETED, failed == 0 ? "Accessibility checks completed."
+					: failed + " of " + job.getTotalPages() + " pages could not be scanned.");
+			logger.info("Scan job {} completed ({} pages, {} failed).", job.getId(), job.getTotalPages(),
+					pagesFailed(job));
+		} catch (IOException | RuntimeException e) {
+			logger.error("Scan job {} failed.", job.getId(), e);
+			List<String> unsaved = scanResultWriter.flush(job.getId());
+			failUnsaved(job, unsaved);
+			saveStatus(job, ScanJob.Status.FAILED, "An internal error occurred.");
+		}
+	}
+
+	/**
+	 * Marks the scanned pages whose result could not be stored as failed.
+	 */
+	private void failUnsaved(ScanJob job, List<String> unsaved) {
+		if (unsaved.isEmpty()) {
+			return;
+		}
+		logger.error("Scan job {} lost the results of {} pages.", job.getId(), unsaved.size());
+		for (ScanJobPage page : job.getPages()) {
+			if (page.getState() == ScanJobPage.State.DONE && unsaved.contains(page.getPageUrl())) {
+				page.setState(ScanJobPage.State.FAILED);
+				page.setError("The scan result could not be stored.");
+				savePage(job, page, 0, 1);
+			}
+		}
+	}
+
+	private void runStream(String scanId, ScanDataResponse scanData, List<URI> pages, ScanOptions options,
+			ScanListener listener) {
+		ScanSummary summary = ScanSummary.builder().scanId(scanId).totalPages(pages.size()).build();
+		try {
+			scanPipeline.run(pages, options.isStaticOnly(), (index, uri) -> {
+				String url = scanData.getUrls().get(index);
+				GuidelineResponse response;
+				try {
+					response = scan(uri, url, scanData.getVersion(), scanData.getLevel(), scanId, options);
+				} catch (IOException | RuntimeException e) {
+					logger.error("Streamed scan failed for URL: {}", url, e);
+					synchronized (summary) {
+						summary.setPagesFailed(summary.getPagesFailed() + 1);
+					}
+					listener.onPageFailed(url, e instanceof IOException
+							? "Unable to fetch or parse the content from the URL." : "An internal error occurred.");
+					return null;
+				}
+				synchronized (summary) {
+					summary.setPagesScanned(summary.getPagesScanned() + 1);
+					if (response != null) {
+						summary.setGuidelineIssueCount(
+								summary.getGuidelineIssueCount() + response.getGuidelineIssueCount());
+						summary.setGuidelineSuccessCount(
+								summary.getGuidelineSuccessCount() + response.getGuidelineSuccessCount());
+						if (response.getGuidelineIncompleteCount() != null) {
+							summary.setGuidelineIncompleteCount(
+									summary.getGuidelineIncompleteCount() + response.getGuidelineIncompleteCount());
+						}
+					}
+				}
+				if (response != null) {
+					scanResultWriter.enqueue(response);
+					listener.onPage(response);
+				}
+				return null;
+			});
+			listener.onComplete(summary);
+		} catch (IOException | RuntimeException e) {
+			if (Thread.currentThread().isInterrupted()) {
+				logger.info("Streamed scan for Scan ID {} cancelled.", scanId);
+				return;
+			}
+			logger.error("Streamed scan for Scan ID {} stopped.", scanId, e);
+			listener.onError(e);
+		}
+	}
+
+	private GuidelineResponse scan(URI uri, String url, String version, String level, String scanId,
+			ScanOptions options) throws IOException {
+		FetchedPage page = scanPipeline.politely(uri, () -> pageFetcher.fetch(uri));
+		return pageResultCache.getOrEvaluate(url, version, level, page, scanId, options, () -> {
+			WebDriverFactory.primePage(url, page);
+			return wcagGuidelines_2_0_AllVersion.executeFilter(url, version, level, page.getDocument(), scanId,
+					options);
+		});
+	}
+
+	/**
+	 * Scans one page and stores its result straight away. A page that cannot be
+	 * fetched or checked is marked failed without stopping the rest of the job.
+	 */
+	private void scanPage(ScanJob job, int index, URI uri) {
+		ScanJobPage page = job.getPages().get(index);
+		String url = page.getPageUrl();
+		page.setState(ScanJobPage.State.RUNNING);
+		savePage(job, page, 0, 0);
+		try {
+			GuidelineResponse response = scan(uri, url, job.getVersion(), job.getLevel(), job.getScanId(),
+					ScanOptions.builder().criteria(job.getCriteria()).staticOnly(job.isStaticOnly()).build());
+			if (response != null) {
+				response.setJobId(job.getId());
+				scanResultWriter.enqueue(response);
+			}
+			page.setState(ScanJobPage.State.DONE);
+			page.setIssueCount(response != null ? response.getGuidelineIssueCount() : 0);
+			savePage(job, page, 1, 0);
+		} catch (IOException | RuntimeException e) {
+			logger.error("Scan job {} failed for URL: {}", job.getId(), url, e);
+			page.setState(ScanJobPage.State.FAILED);
+			page.setError(e instanceof IOException ? "Unable to fetch or parse the content from the URL."
+					: "An internal error occurred.");
+			savePage(job, page, 1, 1);
+		}
+	}
+
+	/**
+	 * Persists one page's state and moves the job's counters by the given
+	 * amounts. Only that page's document and the counters are written, and
+	 * pages of the same job finishing on other threads never wait on the
+	 * write; the counters are incremented on the server, so their updates
+	 * commute.
+	 */
+	private void savePage(ScanJob job, ScanJobPage page, int done, int failed) {
+		String now = now();
+		synchronized (job) {
+			job.setPagesDone(job.getPagesDone() + done);
+			job.setPagesFailed(job.getPagesFailed() + failed);
+		}
+		try {
+			mongoTemplate.updateFirst(new Query(Criteria.where("id").is(page.getId())),
+					new Update().set("state", page.getState()).set("issueCount", page.getIssueCount())
+							.set("error", page.getError()),
+					ScanJobPage.class);
+			mongoTemplate.updateFirst(new Query(Criteria.where("id").is(job.getId())),
+					new Update().inc("pagesDone", done).inc("pagesFailed", failed).max("updatedAt", now),
+					ScanJob.class);
+		} catch (RuntimeException e) {
+			logger.warn("Failed to save progress of scan job {}.", job.getId(), e);
+		}
+	}
+
+	/**
+	 * Sets the job's status, and its message when one is given, without
+	 * rewriting the rest of the job.
+	 */
+	private void saveStatus(ScanJob job, ScanJob.Status status, String message) {
+		String now = now();
+		Update update = new Update().set("status", status).max("updatedAt", now);
+		synchronized (job) {
+			job.setStatus(status);
+			job.setUpdatedAt(now);
+			if (message != null) {
+				job.setMessage(message);
+				update.set("message", message);
+			}
+		}
+		try {
+			mongoTemplate.updateFirst(new Query(Criteria.where("id").is(job.getId())), update, ScanJob.class);
+		} catch (RuntimeException e) {
+			logger.warn("Failed to save the status of scan job {}.", job.getId(), e);
+		}
+	}
+
+	private static int pagesFailed(ScanJob job) {
+		synchronized (job) {
+			return job.getPagesFailed();
+		}
+	}
+
+	private static String now() {
+		return LocalDateTime.now(ZoneOffset.UTC).format(TIMESTAMP_FORMAT);
+	}
+}
@@ -3,6 +3,8 @@ package com.brahos.accessibilitychecker.service.impl;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -14,7 +16,6 @@ import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
@@ -34,6 +35,12 @@ import com.brahos.accessibilitychecker.repository.AccessibilityIssueFixesReposit
 import com.brahos.accessibilitychecker.service.GuidelineResponseBuilderService;
 import com.brahos.accessibilitychecker.service.HelperGuidelinesExecutorService;
 import com.brahos.accessibilitychecker.service.WcagAccessibilityGuidelines_2_0_AA;
+import com.brahos.accessibilitychecker.utility.DomIndex;
+import com.brahos.accessibilitychecker.utility.DomInterest;
+import com.brahos.accessibilitychecker.utility.FocusWalk;
+import com.brahos.accessibilitychecker.utility.StaticRuleEngine;
+import com.brahos.accessibilitychecker.utility.StyleSnapshot;
+import com.brahos.accessibilitychecker.utility.StyleSnapshot.ElementStyle;
 import com.brahos.accessibilitychecker.utility.WebDriverFactory;
 
 import ch.qos.logback.classic.Logger;
@@ -79,11 +86,17 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AA implements WcagAccessibility
 	@Autowired
 	private AccessibilityIssueFixesRepository issueFixesRepository;
 
+	@Autowired
+	private StaticRuleEngine staticRuleEngine;
+
 	private Map<String, IssueFixDetails> fixes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 
 	@PostConstruct
 	public void init() {
 		fixes = getAllFixesDataByVersion("2.0", "AA");
+
+		staticRuleEngine.register(DomInterest.builder().rule("captionsLive").tag("video").tag("audio").build());
+		staticRuleEngine.register(DomInterest.builder().rule("audioDescriptionPrerecorded").tag("video").build());
 	}
 
 	public Map<String, IssueFixDetails> getAllFixesDataByVersion(String wcagVersion, String level) {
@@ -110,9 +123,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AA implements WcagAccessibility
 		}
 
 		try {
-			return doc.select("img, svg, picture, figure, video, audio, source, track, "
-					+ "input, textarea, select, button, label, "
-					+ "[role=img], [role=button], [role=checkbox], [role=link]").size();
+			return staticRuleEngine.index(doc).checkedElements();
 		} catch (Exception e) {
 
 			return 0;
@@ -143,8 +154,13 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AA implements WcagAccessibility
 
 		List<IssueDetails> issueList = new ArrayList<>();
 
-		Elements liveVideos = doc.select("video[controls][live]");
+		DomIndex dom = staticRuleEngine.index(doc);
+
+		Elements liveVideos = dom.select("video");
 		for (Element video : liveVideos) {
+			if (!video.hasAttr("controls") || !video.hasAttr("live")) {
+				continue;
+			}
 
 			boolean hasCaptions = !video.select("track[kind=captions]").isEmpty();
 
@@ -157,8 +173,11 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AA implements WcagAccessibility
 			}
 		}
 
-		Elements liveAudios = doc.select("audio[controls][live]");
+		Elements liveAudios = dom.select("audio");
 		for (Element audio : liveAudios) {
+			if (!audio.hasAttr("controls") || !audio.hasAttr("live")) {
+				continue;
+			}
 
 			boolean hasCaptions = !audio.select("track[kind=captions]").isEmpty();
 
@@ -170,7 +189,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AA implements WcagAccessibility
 		}
 
 		int issueCount = issueList.size();
-		int totalChecked = getTotalCheckedElements(doc);
+		int totalChecked = dom.checkedElements();
 		int successCount = totalChecked - issueCount;
 
 		// Update global counts
@@ -186,7 +205,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AA implements WcagAccessibility
 
 		List<IssueDetails> issueList = new ArrayList<>();
 
-		Elements videos = doc.select("video");
+		Elements videos = staticRuleEngine.index(doc).select("video");
 		for (Element video : videos) {
 
 			boolean hasAudioDescription = !video.select("track[kind=descriptions]").isEmpty(); // Check for audio
@@ -232,28 +251,36 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AA implements WcagAccessibility
 			driver = WebDriverFactory.getDriver(url);
 
 			Elements textElements = doc.select("div, p, span, a, li, h1, h2, h3, h4, h5, h6");
+			Map<Element, String> selectors = new LinkedHashMap<>();
 			for (Element element : textElements) {
 				String cssSelector = generateValidCssSelector(element);
 				if (cssSelector == null || cssSelector.isEmpty()) {
 					logger.debug("Skipping element due to invalid CSS Selector: {}", element.tagName());
 					continue;
 				}
+				selectors.put(element, cssSelector);
+			}
 
+			// One script call resolves the computed styles of every element
+			StyleSnapshot snapshot = StyleSnapshot.capture(driver, new LinkedHashSet<>(selectors.values()));
+
+			for (Map.Entry<Element, String> entry : selectors.entrySet()) {
+				Element element = entry.getKey();
+				String cssSelector = entry.getValue();
 				try {
-					List<WebElement> seleniumElements = driver.findElements(By.cssSelector(cssSelector));
-					if (seleniumElements.isEmpty()) {
-						continue; // Skip if not found in Selenium
+					ElementStyle style = snapshot.get(cssSelector);
+					if (style == null) {
+						continue; // Skip if not found in the rendered page
 					}
 
 					totalChecked++; // Count only successfully found elements
 
-					WebElement seleniumElement = seleniumElements.get(0); // Take the first match
-					String textColor = seleniumElement.getCssValue("color");
-					String backgroundColor = seleniumElement.getCssValue("background-color");
+					String textColor = style.getColor();
+					String backgroundColor = style.getEffectiveBackgroundColor();
 
 					if (isValidColor(textColor) && isValidColor(backgroundColor)) {
 						double contrastRatio = calculateContrastRatio(textColor, backgroundColor);
-						boolean isLargeText = isLargeText(seleniumElement);
+						boolean isLargeText = isLargeText(style);
 						double requiredRatio = isLargeText ? 3.0 : 4.5;
 
 						if (contrastRatio < requiredRatio) {
@@ -360,10 +387,10 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AA implements WcagAccessibility
 		}
 	}
 
-	private boolean isLargeText(WebElement element) {
+	private boolean isLargeText(ElementStyle element) {
 		try {
-			String fontSize = element.getCssValue("font-size");
-			String fontWeight = element.getCssValue("font-weight");
+			String fontSize = element.getFontSize();
+			String fontWeight = element.getFontWeight();
 
 			if (fontSize != null && fontWeight != null) {
 				double size = Double.parseDouble(fontSize.replace("px", "").trim());
@@ -774,37 +801,34 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AA implements WcagAccessibility
 		int successfulElements = 0;
 		boolean status = true; // Ensure status is initialized
 
-		WebDriver driver = null;
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
+			FocusWalk walk = WebDriverFactory.getFocusWalk(url);
 
-			driver = WebDriverFactory.getDriver(url);
-			logger.info("Navigated to URL: {}", url);
-
-			// Identify all focusable elements
-			List<WebElement> focusableElements = driver.findElements(
-					By.cssSelector("a, button, input, select, textarea, [tabindex]:not([tabindex='-1'])"));
+			for (FocusWalk.Target element : walk.getTargets()) {
+				if (!element.isFocusVisibleCandidate()) {
+					continue;
+				}
+				totalCheckedElements++;
 
-			totalCheckedElements = focusableElements.size();
+				// Elements that cannot take focus have no indicator to show
+				if (!element.isFocusable()) {
+					continue;
+				}
 
-			for (WebElement element : focusableElements) {
-				try {
-					// Check if the focus indicator is visible when the element is focused
-					if (!isFocusVisible(driver, element)) {
-						status = false;
-						String key = "Element does not show a visible focus indicator when focused";
-						iGuidelineDataTransformer.addIssue(issueList, element, element.getTagName(),
-								"Element does not show a visible focus indicator when focused.", getFix(key));
-					} else {
-						successfulElements++;
-					}
-				} catch (Exception e) {
-					logger.error("Error processing focusable element: {}", e.getMessage(), e);
+				// Check if the focus indicator is visible when the element is focused
+				if (!element.hasVisibleFocusIndicator()) {
+					status = false;
+					String key = "Element does not show a visible focus indicator when focused";
+					iGuidelineDataTransformer.addIssue(issueList, element, element.getTagName(),
+							"Element does not show a visible focus indicator when focused.", getFix(key));
+				} else {
+					successfulElements++;
 				}
 			}
 		} catch (Exception e) {
-			logger.error("Error during WebDriver initialization or navigation: {}", e.getMessage(), e);
+			logger.error("Error walking focusable elements: {}", e.getMessage(), e);
 		}
 
 		int issueCount = issueList.size();
@@ -818,22 +842,6 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AA implements WcagAccessibility
 
 	}
 
-	// Helper method to check if a focus indicator is visible
-	private boolean isFocusVisible(WebDriver driver, WebElement element) {
-		// Simulate focusing the element and check if the outline or border changes
-		JavascriptExecutor jsExecutor = (JavascriptExecutor) driver;
-
-		// Focus the element
-		jsExecutor.executeScript("arguments[0].focus();", element);
-
-		// Check if the outline or border of the element is visible (can be customized)
-		String outline = element.getCssValue("outline");
-		String border = element.getCssValue("border");
-
-		// A valid visible focus should have a non-transparent outline or border
-		return !outline.equals("none") || !border.equals("none");
-	}
-
 	public GuidelineResponse validateLanguageOfParts(Document doc, String url) {
 		String guideline = "3.1.2 Language of Parts";
 
@@ -1001,7 +1009,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AA implements WcagAccessibility
 		int totalChecked = 0; // Track total checked elements across pages
 
 		try {
-			WebDriverFactory.getDriver(url);
+			driver = WebDriverFactory.getDriver(url);
 			if (driver == null) {
 				logger.error("WebDriver could not be initialized.");
 				return buildGuidelineResponse(guideline, level, wcagVersion, issueList, false, 0, 0);
@@ -1012,6 +1020,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AA implements WcagAccessibility
 
 			for (String currentUrl : urls) {
 				driver.get(currentUrl);
+				WebDriverFactory.awaitPageReady(driver);
 				logger.info("Navigated to URL: {}", currentUrl);
 
 				List<WebElement> components = driver.findElements(By.xpath("//button | //a | //img[@alt]")).stream()
@@ -1103,6 +1112,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AA implements WcagAccessibility
 
 			for (String currentUrl : urls) {
 				driver.get(currentUrl);
+				WebDriverFactory.awaitPageReady(driver);
 				logger.info("Navigated to URL: {}", currentUrl);
 
 				List<WebElement> inputFields = driver.findElements(By.xpath("//input | //textarea | //select")).stream()
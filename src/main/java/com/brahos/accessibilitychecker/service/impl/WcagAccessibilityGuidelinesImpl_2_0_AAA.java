@@ -21,7 +21,6 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.JavascriptExecutor;
-import org.openqa.selenium.Keys;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
@@ -44,7 +43,13 @@ import com.brahos.accessibilitychecker.service.GuidelineResponseBuilderService;
 import com.brahos.accessibilitychecker.service.HelperGuidelinesExecutorService;
 import com.brahos.accessibilitychecker.service.WcagAccessibilityGuidelines_2_0_AAA;
 import com.brahos.accessibilitychecker.utility.AccessibilityValidator;
+import com.brahos.accessibilitychecker.utility.DomInterest;
+import com.brahos.accessibilitychecker.utility.FocusWalk;
 import com.brahos.accessibilitychecker.utility.ReadabilityScore;
+import com.brahos.accessibilitychecker.utility.RenderedDom;
+import com.brahos.accessibilitychecker.utility.StaticRuleEngine;
+import com.brahos.accessibilitychecker.utility.StyleSnapshot;
+import com.brahos.accessibilitychecker.utility.StyleSnapshot.ElementStyle;
 import com.brahos.accessibilitychecker.utility.WebDriverFactory;
 
 import ch.qos.logback.classic.Logger;
@@ -77,11 +82,20 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 	@Autowired
 	private AccessibilityIssueFixesRepository issueFixesRepository;
 
+	@Autowired
+	private StaticRuleEngine staticRuleEngine;
+
 	private Map<String, IssueFixDetails> fixes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 
 	@PostConstruct
 	public void init() {
 		fixes = getAllFixesDataByVersion("2.0", "AAA");
+
+		staticRuleEngine.register(DomInterest.builder().rule("signLanguagePrerecorded").tag("video").build());
+		staticRuleEngine
+				.register(DomInterest.builder().rule("extendedAudioDescriptionPrerecorded").tag("video").build());
+		staticRuleEngine.register(DomInterest.builder().rule("mediaAlternativePrerecorded").tag("video").build());
+		staticRuleEngine.register(DomInterest.builder().rule("audioOnlyLive").tag("audio").build());
 	}
 
 	public Map<String, IssueFixDetails> getAllFixesDataByVersion(String wcagVersion, String level) {
@@ -125,9 +139,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 		}
 
 		try {
-			return doc.select("img, svg, picture, figure, video, audio, source, track, "
-					+ "input, textarea, select, button, label, "
-					+ "[role=img], [role=button], [role=checkbox], [role=link]").size();
+			return staticRuleEngine.index(doc).checkedElements();
 		} catch (Exception e) {
 
 			return 0;
@@ -139,9 +151,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 
 		//
 //		// Create a WebDriver instance using the factory
-		driver = WebDriverFactory.getDriver();
-
-		driver.get(url);
+		driver = WebDriverFactory.getDriver(url);
 
 		System.out.println("Fetching Selenium data...");
 
@@ -183,7 +193,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 
 		List<IssueDetails> issueList = new ArrayList<>();
 
-		Elements videos = doc.select("video");
+		Elements videos = staticRuleEngine.index(doc).select("video");
 		for (Element video : videos) {
 
 			boolean hasSignLanguage = !video.select("track[kind=signLanguage]").isEmpty();
@@ -211,7 +221,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 
 		List<IssueDetails> issueList = new ArrayList<>();
 
-		Elements videos = doc.select("video");
+		Elements videos = staticRuleEngine.index(doc).select("video");
 		for (Element video : videos) {
 
 			boolean hasExtendedAudioDescription = !video.select("track[kind=descriptions]").isEmpty();
@@ -240,7 +250,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 
 		List<IssueDetails> issueList = new ArrayList<>();
 
-		Elements videos = doc.select("video");
+		Elements videos = staticRuleEngine.index(doc).select("video");
 		for (Element video : videos) {
 
 			boolean hasMediaAlternative = video.select("track[kind=alternative]").size() > 0;
@@ -268,7 +278,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 
 		List<IssueDetails> issueList = new ArrayList<>();
 
-		Elements audioElements = doc.select("audio");
+		Elements audioElements = staticRuleEngine.index(doc).select("audio");
 		for (Element audio : audioElements) {
 
 			boolean isLive = audio.hasAttr("data-live") && audio.attr("data-live").equalsIgnoreCase("true");
@@ -386,15 +396,15 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 			driver = WebDriverFactory.getDriver(url);
 			logger.info("Navigated to URL: {}", url);
 
-			// Fetch elements with potential text content
-			List<WebElement> textElements = driver
-					.findElements(By.cssSelector("p, h1, h2, h3, h4, h5, h6, span, a, li, button, input, textarea"));
+			// Fetch computed styles of elements with potential text content in one call
+			StyleSnapshot snapshot = StyleSnapshot.capture(driver,
+					"p, h1, h2, h3, h4, h5, h6, span, a, li, button, input, textarea");
 
-			for (WebElement element : textElements) {
+			for (ElementStyle element : snapshot.getElements()) {
 
 				try {
-					String color = element.getCssValue("color");
-					String backgroundColor = element.getCssValue("background-color");
+					String color = element.getColor();
+					String backgroundColor = element.getEffectiveBackgroundColor();
 
 					if (color == null || backgroundColor == null || color.isEmpty() || backgroundColor.isEmpty()) {
 						continue;
@@ -455,9 +465,9 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 		return color <= 0.03928 ? color / 12.92 : Math.pow((color + 0.055) / 1.055, 2.4);
 	}
 
-	private boolean isLargeTextAAA(WebElement element) {
-		String fontSize = element.getCssValue("font-size").replace("px", "");
-		String fontWeight = element.getCssValue("font-weight");
+	private boolean isLargeTextAAA(ElementStyle element) {
+		String fontSize = element.getFontSize().replace("px", "");
+		String fontWeight = element.getFontWeight();
 		double size = Double.parseDouble(fontSize);
 		boolean isBold = Integer.parseInt(fontWeight) >= 700;
 
@@ -669,15 +679,17 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 //				));
 //			
 
-			List<WebElement> textElements = driver.findElements(By.cssSelector("p, h1, h2, h3, h4, h5, h6, span, div"));
+			StyleSnapshot snapshot = StyleSnapshot.capture(driver, "p, h1, h2, h3, h4, h5, h6, span, div");
 
-			int totalChecked = textElements.size();
+			// Horizontal scrolling at 200% zoom is a property of the page, not of
+			// each element, so it is measured once
+			boolean resizesWithoutScrolling = validateTextResizing(driver);
 
-			for (WebElement element : textElements) {
+			for (ElementStyle element : snapshot.getElements()) {
 				totalCheckedElements++;
 				try {
-					String color = element.getCssValue("color");
-					String backgroundColor = element.getCssValue("background-color");
+					String color = element.getColor();
+					String backgroundColor = element.getEffectiveBackgroundColor();
 					if (!validateColors(color, backgroundColor)) {
 						status = false;
 						String key = "Foreground and background color combination is not user-adjustable";
@@ -693,7 +705,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 								"Line width exceeds 80 characters or 40 CJK glyphs.", getFix(key));
 					}
 
-					String textAlign = element.getCssValue("text-align");
+					String textAlign = element.getTextAlign();
 					if ("justify".equalsIgnoreCase(textAlign)) {
 						status = false;
 						String key = "Text is fully justified, causing readability issues";
@@ -708,7 +720,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 								"Line spacing or paragraph spacing does not meet Level AAA requirements.", getFix(key));
 					}
 
-					if (!validateTextResizing(driver, element)) {
+					if (!resizesWithoutScrolling) {
 						status = false;
 						String key = "Text resizing up to 200% causes horizontal scrolling";
 						iGuidelineDataTransformer.addIssue(issueList, element, text,
@@ -818,9 +830,9 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 		return true;
 	}
 
-	private boolean validateLineAndParagraphSpacing(WebElement element) {
-		String lineHeight = element.getCssValue("line-height");
-		String marginBottom = element.getCssValue("margin-bottom");
+	private boolean validateLineAndParagraphSpacing(ElementStyle element) {
+		String lineHeight = element.getLineHeight();
+		String marginBottom = element.getMarginBottom();
 
 		double lineHeightValue = parseCssUnit(lineHeight);
 		double marginBottomValue = parseCssUnit(marginBottom);
@@ -875,7 +887,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 		}
 	}
 
-	private boolean validateTextResizing(WebDriver driver, WebElement element) {
+	private boolean validateTextResizing(WebDriver driver) {
 		try {
 
 			JavascriptExecutor js = (JavascriptExecutor) driver;
@@ -899,44 +911,34 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 		int totalCheckedElements = 0;
 		int successfulElements = 0;
 
-		WebDriver driver = null;
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver(url);
-
 			// Identify all actionable elements
-			List<WebElement> actionableElements = driver.findElements(By.cssSelector(
-					"a, button, input, textarea, select, [tabindex], [role='button'], [role='link'], [role='menuitem']"));
+			List<FocusWalk.Target> actionableElements = WebDriverFactory.getFocusWalk(url).getTargets();
 
 			logger.info("Found {} actionable elements to verify keyboard accessibility.", actionableElements.size());
 
-			for (WebElement element : actionableElements) {
+			for (FocusWalk.Target element : actionableElements) {
 				totalCheckedElements++;
 
-				try {
-					if (!element.isDisplayed() || !element.isEnabled()) {
-						logger.debug("Skipping non-visible or disabled element: {}", element.getTagName());
-						continue;
-					}
-
-					// Check if the element is operable using the keyboard
-					boolean isKeyboardAccessible = isOperableByKeyboard(driver, element);
+				if (!element.isDisplayed() || !element.isEnabled()) {
+					logger.debug("Skipping non-visible or disabled element: {}", element.getTagName());
+					continue;
+				}
 
-					if (!isKeyboardAccessible) {
-						status = false;
-						String key = "The element is not operable using the keyboard interface";
-						iGuidelineDataTransformer.addIssue(issueList, element, element.getText(),
-								"The element is not operable using the keyboard interface.", getFix(key));
-					} else {
-						successfulElements++;
-					}
-				} catch (Exception e) {
-					logger.error("Error processing element {}: {}");
+				// Operable by keyboard when Tab reaches the element
+				if (!element.isInTabOrder()) {
+					status = false;
+					String key = "The element is not operable using the keyboard interface";
+					iGuidelineDataTransformer.addIssue(issueList, element, element.getText(),
+							"The element is not operable using the keyboard interface.", getFix(key));
+				} else {
+					successfulElements++;
 				}
 			}
 		} catch (Exception e) {
-			logger.error("Error during WebDriver initialization or navigation: {}", e.getMessage());
+			logger.error("Error walking keyboard focus: {}", e.getMessage());
 		}
 
 		int issueCount = issueList.size();
@@ -948,39 +950,6 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 		return buildGuidelineResponse(guideline, level, wcagVersion, issueList, successCount, issueCount);
 	}
 
-	private boolean isOperableByKeyboard(WebDriver driver, WebElement element) {
-		try {
-			// Save initial focus
-			// List<WebElement> initialFocusedElement =
-			// accessibilityValidator.getGlobalSeleniumData();
-
-			WebElement initialFocusedElement = driver.switchTo().activeElement();
-
-			// Attempt to focus the element
-			element.sendKeys(Keys.TAB);
-			WebElement focusedElement = driver.switchTo().activeElement();
-
-			// Check if the element received focus
-			boolean focusReceived = element.equals(focusedElement);
-
-			if (!focusReceived) {
-				return false;
-			}
-
-			// Test activation (if applicable)
-			String tagName = element.getTagName();
-			if ("button".equalsIgnoreCase(tagName) || "a".equalsIgnoreCase(tagName)) {
-				element.sendKeys(Keys.ENTER);
-
-			}
-
-			return true;
-		} catch (Exception e) {
-			logger.error("Error verifying keyboard operability: {}", e.getMessage(), e);
-			return false;
-		}
-	}
-
 //	private boolean isOperableByKeyboard(WebDriver driver, WebElement element) {
 //		try {
 //			// Save the currently focused element
@@ -1104,7 +1073,6 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 		try {
 			driver = WebDriverFactory.getDriver(url);
 
-			driver.get(url);
 			logger.info("Navigated to URL: {}", url);
 
 			// List<WebElement> metaElements =
@@ -1394,8 +1362,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver();
-			driver.get(url);
+			driver = WebDriverFactory.getDriver(url);
 			logger.info("Navigated to URL: {}", url);
 
 			try {
@@ -1462,7 +1429,6 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 
 		try {
 			driver = WebDriverFactory.getDriver(url);
-			driver.get(url);
 			logger.info("Navigated to URL: {}", url);
 
 			// Locate elements for breadcrumbs, sitemaps, and navigation bars
@@ -1542,26 +1508,20 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 
 		int successfulLinks = 0;
 
-		WebDriver driver = null;
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver();
-			driver.get(url);
-			logger.info("Navigated to URL: {}", url);
+			RenderedDom rendered = WebDriverFactory.getRenderedDom(url);
 
-			// Find all links (<a> tags) on the page
+			// Find all links (<a> tags) on the rendered page
+			Elements links = rendered.getDocument().select("a");
 
-			// List<WebElement> links = accessibilityValidator.getGlobalSeleniumData(url);
-
-			List<WebElement> links = driver.findElements(By.tagName("a"));
-
-			for (WebElement link : links) {
+			for (Element link : links) {
 
 				try {
 					// Get link text and href
-					String linkText = link.getText().trim();
-					String linkHref = link.getAttribute("href");
+					String linkText = rendered.text(link);
+					String linkHref = link.hasAttr("href") ? link.absUrl("href") : null;
 
 					// Check if the link text is descriptive and non-empty
 					if (linkText.isEmpty()) {
@@ -1570,7 +1530,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 						iGuidelineDataTransformer.addIssueUsingJsoup(issueList, doc, linkHref, url, getFix(key));
 					} else if (isNonDescriptiveText(linkText)) {
 						status = false;
-						iGuidelineDataTransformer.addIssue(issueList, link, linkHref, url, guideline);
+						iGuidelineDataTransformer.addRenderedIssue(issueList, link, linkHref, url, guideline);
 					} else {
 						// If the link text is sufficient
 						successfulLinks++;
@@ -1578,14 +1538,14 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 
 					// Check if aria-label or aria-labelledby is provided for links with
 					// insufficient text
-					String ariaLabel = link.getAttribute("aria-label");
-					String ariaLabelledBy = link.getAttribute("aria-labelledby");
+					String ariaLabel = link.attr("aria-label");
+					String ariaLabelledBy = link.hasAttr("aria-labelledby") ? link.attr("aria-labelledby") : null;
 
-					if (linkText.isEmpty() && (ariaLabel == null || ariaLabel.isEmpty())
+					if (linkText.isEmpty() && ariaLabel.isEmpty()
 							&& (ariaLabelledBy == null || ariaLabelledBy.isEmpty())) {
 						status = false;//TODO TITLE -->Link lacks an accessible name (aria-label or aria-labelledby).
 						String key = "Link lacks an accessible name (aria-label or aria-labelledby)";
-						iGuidelineDataTransformer.addIssue(issueList, link, ariaLabelledBy, url, getFix(key));
+						iGuidelineDataTransformer.addRenderedIssue(issueList, link, ariaLabelledBy, url, getFix(key));
 					}
 
 				} catch (Exception e) {
@@ -1619,28 +1579,24 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 
 		int successfulElements = 0;
 
-		WebDriver driver = null;
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver();
-			driver.get(url);
-			logger.info("Navigated to URL: {}", url);
+			RenderedDom rendered = WebDriverFactory.getRenderedDom(url);
 
 			// Find all sections or div elements representing content sections
+			Elements sectionElements = rendered.getDocument().select("section, div");
 
-			List<WebElement> sectionElements = driver.findElements(By.cssSelector("section, div"));
-
-			for (WebElement section : sectionElements) {
+			for (Element section : sectionElements) {
 
 				try {
-					String sectionText = section.getText();
-					boolean hasHeading = hasValidHeading(section);
+					String sectionText = rendered.text(section);
+					boolean hasHeading = hasValidHeading(rendered, section);
 
 					if (!hasHeading) {
 						status = false;
 						String key = "Section is missing a heading or the heading is not descriptive";
-						iGuidelineDataTransformer.addIssue(issueList, section, sectionText,
+						iGuidelineDataTransformer.addRenderedIssue(issueList, section, sectionText,
 								"Section is missing a heading or the heading is not descriptive.", getFix(key));
 					} else {
 						successfulElements++;
@@ -1662,10 +1618,10 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 		return buildGuidelineResponse(guideline, level, wcagVersion, issueList, successCount, issueCount);
 	}
 
-	private boolean hasValidHeading(WebElement section) {
-		List<WebElement> headingElements = section.findElements(By.cssSelector("h1, h2, h3, h4, h5, h6"));
-		for (WebElement heading : headingElements) {
-			if (!heading.getText().isEmpty()) {
+	private boolean hasValidHeading(RenderedDom rendered, Element section) {
+		Elements headingElements = section.select("h1, h2, h3, h4, h5, h6");
+		for (Element heading : headingElements) {
+			if (!rendered.text(heading).isEmpty()) {
 				return true; // Valid heading exists
 			}
 		}
@@ -1677,23 +1633,17 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 
 		int successfulWords = 0;
 
-		WebDriver driver = null;
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver(url);
-
-			logger.info("Navigated to URL: {}", url);
-
-			// Fetch all text content in the document
-
-			// List<WebElement> textElements =
-			// accessibilityValidator.getGlobalSeleniumData(url);
-
-			List<WebElement> textElements = driver.findElements(By.xpath("//*[not(self::script or self::style)]"));
+			RenderedDom rendered = WebDriverFactory.getRenderedDom(url);
 
-			for (WebElement element : textElements) {
-				String textContent = element.getText();
+			// Fetch all text content in the rendered document
+			for (Element element : rendered.getDocument().getAllElements()) {
+				if (element instanceof Document || element.nameIs("script") || element.nameIs("style")) {
+					continue;
+				}
+				String textContent = rendered.text(element);
 				if (textContent != null && !textContent.isEmpty()) {
 					// Extract words from text content
 					List<String> words = extractWords(textContent);
@@ -1703,7 +1653,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 							if (!hasDefinition(word, doc)) {
 								status = false;//TODO TITLE -->Unusual word found without a provided definition or link to a glossary
 								String key = "Unusual word found without a provided definition or link to a glossary";
-								iGuidelineDataTransformer.addIssue(issueList, element, word,
+								iGuidelineDataTransformer.addRenderedIssue(issueList, element, word,
 										"Unusual word found without a provided definition or link to a glossary: "
 												+ word,
 										getFix(key));
@@ -1915,24 +1865,18 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 
 		int successfulSections = 0;
 
-		WebDriver driver = null;
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver(url);
-
-			logger.info("Navigated to URL: {}", url);
+			RenderedDom rendered = WebDriverFactory.getRenderedDom(url);
 
 			// Fetch text content excluding scripts, styles, and hidden elements
-
-			// List<WebElement> textElements =
-			// accessibilityValidator.getGlobalSeleniumData(url);
-
-			List<WebElement> textElements = driver.findElements(By.xpath(
-					"//*[not(self::script or self::style or self::noscript) and string-length(normalize-space()) > 0 and not(ancestor::*[@aria-hidden='true'])]"));
-
-			for (WebElement element : textElements) {
-				String textContent = element.getText().trim();
+			for (Element element : rendered.getDocument().getAllElements()) {
+				if (element instanceof Document || element.nameIs("script") || element.nameIs("style")
+						|| element.nameIs("noscript") || isAriaHidden(element)) {
+					continue;
+				}
+				String textContent = rendered.text(element);
 
 				if (!textContent.isEmpty()) {
 
@@ -1945,7 +1889,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 					// (Grade 9 or equivalent)
 					if (readabilityScore.getGradeLevel() > 9) {
 						String key = "Text content requires a reading level higher than lower secondary education (Grade 9)";
-						iGuidelineDataTransformer.addIssue(issueList, element, textContent,
+						iGuidelineDataTransformer.addRenderedIssue(issueList, element, textContent,
 								"Text content requires a reading level higher than lower secondary education (Grade 9).",
 								getFix(key));
 						status = false;
@@ -1979,6 +1923,15 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 		return buildGuidelineResponse(guideline, level, wcagVersion, issueList, successCount, issueCount);
 	}
 
+	private boolean isAriaHidden(Element element) {
+		for (Element ancestor = element.parent(); ancestor != null; ancestor = ancestor.parent()) {
+			if ("true".equals(ancestor.attr("aria-hidden"))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Analyzes the readability of a given text using Flesch-Kincaid Grade Level.
 	 *
@@ -2204,8 +2157,7 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 		boolean status = true;
 
 		try {
-			driver = WebDriverFactory.getDriver();
-			driver.get(url);
+			driver = WebDriverFactory.getDriver(url);
 			logger.info("Navigated to URL: {}", url);
 
 			// Check for meta refresh elements
@@ -2328,9 +2280,8 @@ public class WcagAccessibilityGuidelinesImpl_2_0_AAA implements WcagAccessibilit
 		List<IssueDetails> issueList = new ArrayList<>();
 
 		try {
-			driver = WebDriverFactory.getDriver();
+			driver = WebDriverFactory.getDriver(url);
 
-			driver.get(url);
 			logger.info("Navigated to URL: {}", url);
 
 			// List<WebElement> forms = accessibilityValidator.getGlobalSeleniumData(url);
@@ -0,0 +1,310 @@
+package com.brahos.accessibilitychecker.utility;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+/**
+ * Stylesheets, scripts, fonts and images the browsers downloaded, shared by
+ * every pooled browser so pages of the same site load their common assets
+ * once. Bounded by total bytes; the least recently used assets go first.
+ * Freshness follows the response: max-age, s-maxage or Expires, else a tenth
+ * of the time since Last-Modified. A stale asset is revalidated with its ETag
+ * or Last-Modified and served again on 304; no-cache assets are revalidated on
+ * every use. Responses marked no-store or private, or varying on every header,
+ * are never kept, and an asset is only served to requests matching its Vary
+ * headers.
+ */
+class AssetCache {
+
+	private static final List<String> ASSET_TYPES = List.of("text/css", "javascript", "ecmascript", "font/",
+			"image/", "application/font", "application/wasm");
+
+	private static final Pattern MAX_AGE = Pattern.compile("(?:^|[,\\s])(s-maxage|max-age)\\s*=\\s*\"?(\\d+)");
+
+	/** Upper bound of the heuristic freshness given to assets without an expiry. */
+	private static final long MAX_HEURISTIC_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+	private final long maxBytes;
+	private final long maxEntryBytes;
+	private final LongSupplier clock;
+	private final LinkedHashMap<String, Asset> assets = new LinkedHashMap<>(64, 0.75f, true);
+	private long bytes;
+
+	AssetCache(long maxBytes) {
+		this(maxBytes, System::currentTimeMillis);
+	}
+
+	AssetCache(long maxBytes, LongSupplier clock) {
+		this.maxBytes = maxBytes;
+		this.maxEntryBytes = Math.max(0, maxBytes / 8);
+		this.clock = clock;
+	}
+
+	boolean isEnabled() {
+		return maxBytes > 0;
+	}
+
+	/**
+	 * Answers a GET from the cache when the stored asset is fresh, revalidates
+	 * it when stale, and otherwise sends the request on and keeps the response
+	 * if it is a cacheable static asset. Requests the browser made conditional
+	 * itself are passed through untouched.
+	 */
+	HttpResponse fetch(HttpRequest request, HttpHandler next) {
+		if (!isEnabled()) {
+			return next.execute(request);
+		}
+		String url = request.getUri();
+		boolean conditional = request.getHeader("If-None-Match") != null
+				|| request.getHeader("If-Modified-Since") != null;
+		Asset asset = conditional ? null : get(url, request);
+		if (asset != null && asset.expiresAt > clock.getAsLong()) {
+			return asset.toResponse();
+		}
+		if (asset != null) {
+			if (asset.etag != null) {
+				request.setHeader("If-None-Match", asset.etag);
+			}
+			if (asset.lastModified != null) {
+				request.setHeader("If-Modified-Since", asset.lastModified);
+			}
+		}
+
+		HttpResponse response = next.execute(request);
+		if (asset != null && response.getStatus() == 304) {
+			Asset refreshed = asset.refreshed(response, clock.getAsLong());
+			put(url, refreshed);
+			return refreshed.toResponse();
+		}
+		if (!conditional) {
+			offer(url, request, response);
+		}
+		return response;
+	}
+
+	private synchronized Asset get(String url, HttpRequest request) {
+		Asset asset = assets.get(url);
+		if (asset == null) {
+			return null;
+		}
+		if (!asset.matches(request)) {
+			return null;
+		}
+		if (asset.expiresAt <= clock.getAsLong() && asset.etag == null && asset.lastModified == null) {
+			remove(url);
+			return null;
+		}
+		return asset;
+	}
+
+	/**
+	 * Keeps the response if it is a cacheable static asset. Reading the body
+	 * consumes it, so the response is given a fresh copy either way.
+	 */
+	private void offer(String url, HttpRequest request, HttpResponse response) {
+		if (response.getStatus() != 200 || !isAsset(response.getHeader("Content-Type"))) {
+			return;
+		}
+		String directives = lower(response.getHeader("Cache-Control"));
+		if (directives.contains("no-store") || directives.contains("private")) {
+			return;
+		}
+		List<String> vary = new ArrayList<>();
+		for (String name : lower(response.getHeader("Vary")).split(",")) {
+			if (name.isBlank()) {
+				continue;
+			}
+			if (name.trim().equals("*")) {
+				return;
+			}
+			vary.add(name.trim());
+		}
+
+		long now = clock.getAsLong();
+		long expiresAt = expiresAt(response, now);
+		String etag = response.getHeader("ETag");
+		String lastModified = response.getHeader("Last-Modified");
+		if (expiresAt <= now && etag == null && lastModified == null) {
+			return;
+		}
+
+		byte[] body = Contents.bytes(response.getContent());
+		response.setContent(Contents.bytes(body));
+		if (body.length > maxEntryBytes) {
+			return;
+		}
+
+		List<String[]> headers = new ArrayList<>();
+		response.forEachHeader((name, value) -> {
+			if (isKept(name)) {
+				headers.add(new String[] { name, value });
+			}
+		});
+		Map<String, String> varied = new LinkedHashMap<>();
+		vary.forEach(name -> varied.put(name, request.getHeader(name)));
+		put(url, new Asset(headers, body, varied, etag, lastModified, expiresAt));
+	}
+
+	private synchronized void put(String url, Asset asset) {
+		Asset previous = assets.put(url, asset);
+		bytes += asset.body.length - (previous != null ? previous.body.length : 0);
+		Iterator<Map.Entry<String, Asset>> eldest = assets.entrySet().iterator();
+		while (bytes > maxBytes && eldest.hasNext()) {
+			bytes -= eldest.next().getValue().body.length;
+			eldest.remove();
+		}
+	}
+
+	private synchronized void remove(String url) {
+		Asset removed = assets.remove(url);
+		if (removed != null) {
+			bytes -= removed.body.length;
+		}
+	}
+
+	/**
+	 * When the response stops being fresh, as an epoch millisecond; now or
+	 * earlier when it must be revalidated before every use.
+	 */
+	private static long expiresAt(HttpResponse response, long now) {
+		String directives = lower(response.getHeader("Cache-Control"));
+		if (directives.contains("no-cache")) {
+			return now;
+		}
+		long age = TimeUnit.SECONDS.toMillis(parseLong(response.getHeader("Age")));
+		Matcher maxAge = MAX_AGE.matcher(directives);
+		long sharedMaxAge = -1;
+		long privateMaxAge = -1;
+		while (maxAge.find()) {
+			long seconds = Long.parseLong(maxAge.group(2));
+			if (maxAge.group(1).equals("s-maxage")) {
+				sharedMaxAge = seconds;
+			} else {
+				privateMaxAge = seconds;
+			}
+		}
+		long lifetime = sharedMaxAge >= 0 ? sharedMaxAge : privateMaxAge;
+		if (lifetime >= 0) {
+			return now + TimeUnit.SECONDS.toMillis(lifetime) - age;
+		}
+
+		Long date = parseDate(response.getHeader("Date"));
+		long served = date != null ? date : now;
+		String expires = response.getHeader("Expires");
+		if (expires != null) {
+			Long at = parseDate(expires);
+			return at != null ? now + (at - served) - age : now;
+		}
+		Long lastModified = parseDate(response.getHeader("Last-Modified"));
+		if (lastModified != null && lastModified < served) {
+			return now + Math.min((served - lastModified) / 10, MAX_HEURISTIC_MILLIS) - age;
+		}
+		return now;
+	}
+
+	/** Headers replayed with a cached asset; framing, cookies and age are not. */
+	private static boolean isKept(String name) {
+		String header = name.toLowerCase(Locale.ROOT);
+		return !header.equals("content-length") && !header.equals("content-encoding")
+				&& !header.equals("transfer-encoding") && !header.equals("set-cookie") && !header.equals("age");
+	}
+
+	private static Long parseDate(String value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	private static long parseLong(String value) {
+		try {
+			return value != null ? Math.max(0, Long.parseLong(value.trim())) : 0;
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private static String lower(String value) {
+		return value != null ? value.toLowerCase(Locale.ROOT) : "";
+	}
+
+	private static boolean isAsset(String contentType) {
+		if (contentType == null) {
+			return false;
+		}
+		String type = contentType.toLowerCase(Locale.ROOT);
+		return ASSET_TYPES.stream().anyMatch(type::contains);
+	}
+
+	private static final class Asset {
+
+		private final List<String[]> headers;
+		private final byte[] body;
+		/** Request headers named by Vary, as sent when the asset was stored. */
+		private final Map<String, String> varied;
+		private final String etag;
+		private final String lastModified;
+		private final long expiresAt;
+
+		Asset(List<String[]> headers, byte[] body, Map<String, String> varied, String etag, String lastModified,
+				long expiresAt) {
+			this.headers = headers;
+			this.body = body;
+			this.varied = varied;
+			this.etag = etag;
+			this.lastModified = lastModified;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean matches(HttpRequest request) {
+			return varied.entrySet().stream()
+					.allMatch(header -> Objects.equals(header.getValue(), request.getHeader(header.getKey())));
+		}
+
+		/**
+		 * The same asset after a 304: the headers the server sent with it
+		 * replace the stored ones and give the asset its new freshness.
+		 */
+		Asset refreshed(HttpResponse notModified, long now) {
+			HttpResponse merged = toResponse();
+			notModified.forEachHeader((name, value) -> {
+				if (isKept(name)) {
+					merged.setHeader(name, value);
+				}
+			});
+			List<String[]> updated = new ArrayList<>();
+			merged.forEachHeader((name, value) -> updated.add(new String[] { name, value }));
+			long expiry = expiresAt(merged, now) - TimeUnit.SECONDS.toMillis(parseLong(notModified.getHeader("Age")));
+			return new Asset(updated, body, varied, merged.getHeader("ETag"), merged.getHeader("Last-Modified"),
+					expiry);
+		}
+
+		HttpResponse toResponse() {
+			HttpResponse response = new HttpResponse().setStatus(200);
+			headers.forEach(header -> response.addHeader(header[0], header[1]));
+			response.setContent(Contents.bytes(body));
+			return response;
+		}
+	}
+}
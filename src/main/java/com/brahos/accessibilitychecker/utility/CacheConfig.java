@@ -0,0 +1,37 @@
+package com.brahos.accessibilitychecker.utility;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Enables the cache abstraction backed by spring.cache.type and stores page
+ * results in Redis as JSON, so cached entries stay readable across releases
+ * instead of depending on Java serialization.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	@Value("${scan.cache.ttl-hours:168}")
+	private long pageResultTtlHours;
+
+	@Bean
+	public RedisCacheManagerBuilderCustomizer pageResultCacheCustomizer(ObjectMapper objectMapper) {
+		Jackson2JsonRedisSerializer<GuidelineResponse> serializer = new Jackson2JsonRedisSerializer<>(objectMapper,
+				GuidelineResponse.class);
+		return builder -> builder.withCacheConfiguration(PageResultCache.CACHE_NAME,
+				RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofHours(pageResultTtlHours))
+						.disableCachingNullValues().serializeValuesWith(SerializationPair.fromSerializer(serializer)));
+	}
+}
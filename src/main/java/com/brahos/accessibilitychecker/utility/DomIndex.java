@@ -0,0 +1,186 @@
+package com.brahos.accessibilitychecker.utility;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.jsoup.select.NodeTraversor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buckets of elements collected in a single traversal of a document. Lookups
+ * return elements in document order, the same order {@code doc.select(...)}
+ * would, so rules produce identical results against either.
+ */
+public class DomIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(DomIndex.class);
+
+	private final Document document;
+	private final Map<String, List<Element>> byTag = new HashMap<>();
+	private final Map<String, List<Element>> byAttribute = new HashMap<>();
+	private final Map<String, List<Element>> byRole = new HashMap<>();
+	private final Map<Element, Integer> position = new IdentityHashMap<>();
+
+	private DomIndex(Document document) {
+		this.document = document;
+	}
+
+	static DomIndex build(Document document, Set<String> tags, Set<String> attributes, Set<String> roles) {
+		DomIndex index = new DomIndex(document);
+		tags.forEach(tag -> index.byTag.put(tag, new ArrayList<>()));
+		attributes.forEach(attribute -> index.byAttribute.put(attribute, new ArrayList<>()));
+		roles.forEach(role -> index.byRole.put(role, new ArrayList<>()));
+
+		int[] sequence = { 0 };
+		NodeTraversor.traverse((node, depth) -> {
+			if (!(node instanceof Element element)) {
+				return;
+			}
+			int current = sequence[0]++;
+			boolean indexed = false;
+
+			List<Element> tagBucket = index.byTag.get(element.normalName());
+			if (tagBucket != null) {
+				tagBucket.add(element);
+				indexed = true;
+			}
+			if (element.attributesSize() > 0) {
+				for (Map.Entry<String, List<Element>> entry : index.byAttribute.entrySet()) {
+					if (element.hasAttr(entry.getKey())) {
+						entry.getValue().add(element);
+						indexed = true;
+					}
+				}
+				if (!index.byRole.isEmpty() && element.hasAttr("role")) {
+					List<Element> roleBucket = index.byRole.get(element.attr("role").trim().toLowerCase(Locale.ROOT));
+					if (roleBucket != null) {
+						roleBucket.add(element);
+						indexed = true;
+					}
+				}
+			}
+			if (indexed) {
+				index.position.put(element, current);
+			}
+		}, document);
+		return index;
+	}
+
+	/**
+	 * Elements with any of the given tag names, equivalent to
+	 * {@code doc.select("a, b, c")}.
+	 */
+	public Elements select(String... tags) {
+		List<List<Element>> buckets = new ArrayList<>();
+		for (String tag : tags) {
+			List<Element> bucket = byTag.get(tag);
+			if (bucket == null) {
+				logger.debug("Tag '{}' was not registered with the rule engine; falling back to select.", tag);
+				return document.select(String.join(", ", tags));
+			}
+			buckets.add(bucket);
+		}
+		return merge(buckets);
+	}
+
+	/**
+	 * Elements carrying the given attribute, equivalent to {@code [attribute]}.
+	 */
+	public Elements withAttribute(String attribute) {
+		List<Element> bucket = byAttribute.get(attribute);
+		if (bucket == null) {
+			logger.debug("Attribute '{}' was not registered with the rule engine; falling back to select.", attribute);
+			return document.select("[" + attribute + "]");
+		}
+		return new Elements(bucket);
+	}
+
+	/**
+	 * Elements where any of the given attributes contains the value, equivalent
+	 * to {@code [a*=value], [b*=value]}.
+	 */
+	public Elements withAttributeContaining(String value, String... attributes) {
+		String needle = value.toLowerCase(Locale.ROOT);
+		List<List<Element>> buckets = new ArrayList<>();
+		for (String attribute : attributes) {
+			List<Element> matches = new ArrayList<>();
+			for (Element element : withAttribute(attribute)) {
+				if (element.attr(attribute).toLowerCase(Locale.ROOT).contains(needle)) {
+					matches.add(element);
+				}
+			}
+			buckets.add(matches);
+		}
+		return merge(buckets);
+	}
+
+	/**
+	 * Number of distinct elements matching any of the tags or role values,
+	 * equivalent to {@code doc.select("tag, ..., [role=value], ...").size()}.
+	 */
+	public int count(Collection<String> tags, Collection<String> roles) {
+		List<List<Element>> buckets = new ArrayList<>();
+		for (String tag : tags) {
+			List<Element> bucket = byTag.get(tag);
+			if (bucket == null) {
+				return fallbackCount(tags, roles);
+			}
+			buckets.add(bucket);
+		}
+		for (String role : roles) {
+			List<Element> bucket = byRole.get(role);
+			if (bucket == null) {
+				return fallbackCount(tags, roles);
+			}
+			buckets.add(bucket);
+		}
+		return merge(buckets).size();
+	}
+
+	public int count(DomInterest interest) {
+		return count(interest.getTags(), interest.getRoles());
+	}
+
+	/**
+	 * Elements a rule checks on the page, the denominator of its success
+	 * count; see {@link StaticRuleEngine#CHECKED_ELEMENTS}.
+	 */
+	public int checkedElements() {
+		return count(StaticRuleEngine.CHECKED_ELEMENTS);
+	}
+
+	private int fallbackCount(Collection<String> tags, Collection<String> roles) {
+		List<String> selectors = new ArrayList<>(tags);
+		roles.forEach(role -> selectors.add("[role=" + role + "]"));
+		return document.select(String.join(", ", selectors)).size();
+	}
+
+	private Elements merge(List<List<Element>> buckets) {
+		if (buckets.size() == 1) {
+			return new Elements(buckets.get(0));
+		}
+		Set<Element> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+		List<Element> merged = new ArrayList<>();
+		for (List<Element> bucket : buckets) {
+			for (Element element : bucket) {
+				if (seen.add(element)) {
+					merged.add(element);
+				}
+			}
+		}
+		merged.sort(Comparator.comparingInt(position::get));
+		return new Elements(merged);
+	}
+}
@@ -0,0 +1,27 @@
+package com.brahos.accessibilitychecker.utility;
+
+import java.util.Set;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+/**
+ * Elements a static rule wants to see during the shared DOM pass: tag names,
+ * attribute names and ARIA role values.
+ */
+@Getter
+@Builder
+public class DomInterest {
+
+	private final String rule;
+
+	@Singular
+	private final Set<String> tags;
+
+	@Singular
+	private final Set<String> attributes;
+
+	@Singular
+	private final Set<String> roles;
+}
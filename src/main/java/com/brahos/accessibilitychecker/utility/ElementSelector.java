@@ -0,0 +1,22 @@
+package com.brahos.accessibilitychecker.utility;
+
+/**
+ * The selector reported for an issue: tag plus id, or tag plus classes when
+ * the element has no id. Static, rendered and focus-walk rules all report
+ * elements in this form so the same element reads the same everywhere.
+ */
+public final class ElementSelector {
+
+	private ElementSelector() {
+	}
+
+	public static String of(String tagName, String id, String className) {
+		StringBuilder selector = new StringBuilder(tagName);
+		if (id != null && !id.isEmpty()) {
+			selector.append("#").append(id);
+		} else if (className != null && !className.isEmpty()) {
+			selector.append(".").append(className.replace(" ", "."));
+		}
+		return selector.toString();
+	}
+}
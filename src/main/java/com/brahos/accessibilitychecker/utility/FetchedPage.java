@@ -0,0 +1,54 @@
+package com.brahos.accessibilitychecker.utility;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+/**
+ * A fetched page body with its content digest. The body is only parsed when
+ * the document is needed, by a rule or to find the page's stylesheets, so a
+ * static scan of a page whose result is cached never parses it at all.
+ */
+public class FetchedPage {
+
+	private final String url;
+	private final String body;
+	private final String digest;
+	private final boolean notModified;
+	private Document document;
+
+	public FetchedPage(String url, String body, String digest, boolean notModified) {
+		this.url = url;
+		this.body = body;
+		this.digest = digest;
+		this.notModified = notModified;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public String getBody() {
+		return body;
+	}
+
+	/**
+	 * SHA-256 of the body as served.
+	 */
+	public String getDigest() {
+		return digest;
+	}
+
+	/**
+	 * Whether the server answered 304 and the body came from the page store.
+	 */
+	public boolean isNotModified() {
+		return notModified;
+	}
+
+	public synchronized Document getDocument() {
+		if (document == null) {
+			document = Jsoup.parse(body, url);
+		}
+		return document;
+	}
+}
@@ -0,0 +1,287 @@
+package com.brahos.accessibilitychecker.utility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Keyboard behaviour of a page, recorded by one in-page script: every
+ * interactive element is focused once with its outline, border and box-shadow
+ * read before and after, the sequential tab order is derived from tabindex and
+ * document order, and focus-trap containers are probed with Tab and Escape.
+ * The focus-order, focus-visible, keyboard and keyboard-trap rules all read
+ * the same walk instead of focusing elements one WebDriver call at a time.
+ */
+public class FocusWalk {
+
+	private static final Logger logger = LoggerFactory.getLogger(FocusWalk.class);
+
+	/** Every element the walk focuses. */
+	public static final String TARGETS = "a, button, input, textarea, select, [tabindex], [role='button'], [role='link'], [role='menuitem']";
+
+	/** Elements whose position in the tab order is checked. */
+	public static final String FOCUS_ORDER = "a, button, input, select, textarea, [tabindex]";
+
+	/** Elements expected to show a focus indicator. */
+	public static final String FOCUS_VISIBLE = "a, button, input, select, textarea, [tabindex]:not([tabindex='-1'])";
+
+	/** Components that may hold keyboard focus. */
+	public static final String TRAP_CONTAINERS = "div[role='dialog'], modal, .focus-trap";
+
+	private static final String SCRIPT = "var targets = arguments[0], order = arguments[1], visible = arguments[2],"
+			+ "  containers = arguments[3];"
+			+ "function shown(el) {"
+			+ "  var s = getComputedStyle(el);"
+			+ "  return s.display !== 'none' && s.visibility !== 'hidden' && el.getClientRects().length > 0;"
+			+ "}"
+			+ "function ring(el) {"
+			+ "  var s = getComputedStyle(el);"
+			+ "  return [s.outlineStyle, s.outlineWidth, s.outlineColor,"
+			+ "    [s.borderTopStyle, s.borderTopWidth, s.borderTopColor, s.borderBottomStyle, s.borderBottomWidth,"
+			+ "      s.borderBottomColor].join(' '), s.boxShadow];"
+			+ "}"
+			+ "function focus(el) {"
+			+ "  try { el.focus({ preventScroll: true }); } catch (e) { return false; }"
+			+ "  return document.activeElement === el;"
+			+ "}"
+			+ "function press(el, key, code) {"
+			+ "  var e = new KeyboardEvent('keydown', { key: key, code: key, keyCode: code, which: code,"
+			+ "    bubbles: true, cancelable: true });"
+			+ "  return !el.dispatchEvent(e);"
+			+ "}"
+			+ "function describe(el) {"
+			+ "  return [el.tagName.toLowerCase(), el.id || '', typeof el.className === 'string' ? el.className : '',"
+			+ "    (el.innerText || '').trim()];"
+			+ "}"
+			+ "var initial = document.activeElement, els = document.querySelectorAll(targets), rows = [], tabbable = [];"
+			+ "for (var i = 0; i < els.length; i++) {"
+			+ "  var el = els[i], tabindex = el.getAttribute('tabindex'), before = ring(el), after = before;"
+			+ "  var focused = focus(el);"
+			+ "  if (focused) { after = ring(el); el.blur(); }"
+			+ "  var isShown = shown(el), enabled = !el.disabled;"
+			+ "  if (focused && isShown && enabled && el.tabIndex >= 0) { tabbable.push([i, el.tabIndex]); }"
+			+ "  rows.push(describe(el).concat([tabindex, isShown, enabled, focused, el.matches(order),"
+			+ "    el.matches(visible), tabindex !== null ? el.outerHTML : ''], before, after));"
+			+ "}"
+			+ "tabbable.sort(function (a, b) {"
+			+ "  var x = a[1] > 0 ? a[1] : Infinity, y = b[1] > 0 ? b[1] : Infinity;"
+			+ "  return x === y ? a[0] - b[0] : x - y;"
+			+ "});"
+			+ "var traps = [], boxes = document.querySelectorAll(containers);"
+			+ "for (var k = 0; k < boxes.length; k++) {"
+			+ "  var box = boxes[k], boxShown = shown(box), trapped = false;"
+			+ "  if (boxShown) {"
+			+ "    var inner = box.querySelectorAll(order), last = null;"
+			+ "    for (var m = inner.length - 1; m >= 0 && !last; m--) { if (focus(inner[m])) { last = inner[m]; } }"
+			+ "    if (last && press(last, 'Tab', 9) && box.contains(document.activeElement)) {"
+			+ "      press(document.activeElement, 'Escape', 27);"
+			+ "      trapped = shown(box) && box.contains(document.activeElement);"
+			+ "    }"
+			+ "    if (document.activeElement && document.activeElement.blur) { document.activeElement.blur(); }"
+			+ "  }"
+			+ "  traps.push(describe(box).concat([boxShown, !box.disabled, trapped]));"
+			+ "}"
+			+ "if (initial && initial !== document.body && initial.focus) { try { initial.focus(); } catch (e) {} }"
+			+ "return { targets: rows, order: tabbable.map(function (t) { return t[0]; }), containers: traps };";
+
+	private final List<Target> targets;
+	private final List<Target> tabOrder;
+	private final List<Container> containers;
+
+	private FocusWalk(List<Target> targets, List<Target> tabOrder, List<Container> containers) {
+		this.targets = targets;
+		this.tabOrder = tabOrder;
+		this.containers = containers;
+	}
+
+	/**
+	 * Walks the page currently loaded in the browser. The walk moves focus and
+	 * dispatches key events, so the page should be reloaded before other rules
+	 * read it.
+	 */
+	public static FocusWalk capture(WebDriver driver) {
+		long start = System.nanoTime();
+		Object result = ((JavascriptExecutor) driver).executeScript(SCRIPT, TARGETS, FOCUS_ORDER, FOCUS_VISIBLE,
+				TRAP_CONTAINERS);
+
+		List<Target> targets = new ArrayList<>();
+		List<Target> tabOrder = new ArrayList<>();
+		List<Container> containers = new ArrayList<>();
+		if (result instanceof Map<?, ?> walk) {
+			for (List<?> row : rows(walk.get("targets"))) {
+				targets.add(Target.fromRow(row));
+			}
+			if (walk.get("order") instanceof List<?> order) {
+				for (Object position : order) {
+					if (position instanceof Number index && index.intValue() < targets.size()) {
+						Target target = targets.get(index.intValue());
+						target.inTabOrder = true;
+						tabOrder.add(target);
+					}
+				}
+			}
+			for (List<?> row : rows(walk.get("containers"))) {
+				containers.add(Container.fromRow(row));
+			}
+		}
+		logger.info("Walked focus of {} elements and {} containers on {} in {} ms.", targets.size(), containers.size(),
+				driver.getCurrentUrl(), (System.nanoTime() - start) / 1_000_000);
+		return new FocusWalk(Collections.unmodifiableList(targets), Collections.unmodifiableList(tabOrder),
+				Collections.unmodifiableList(containers));
+	}
+
+	/**
+	 * Every focus target in document order.
+	 */
+	public List<Target> getTargets() {
+		return targets;
+	}
+
+	/**
+	 * The targets reachable with Tab, in the order the browser visits them:
+	 * positive tabindex values ascending, then everything else in document
+	 * order.
+	 */
+	public List<Target> getTabOrder() {
+		return tabOrder;
+	}
+
+	public List<Container> getContainers() {
+		return containers;
+	}
+
+	private static List<List<?>> rows(Object value) {
+		List<List<?>> rows = new ArrayList<>();
+		if (value instanceof List<?> list) {
+			for (Object row : list) {
+				if (row instanceof List<?> columns) {
+					rows.add(columns);
+				}
+			}
+		}
+		return rows;
+	}
+
+	private static String string(List<?> row, int index) {
+		Object value = index < row.size() ? row.get(index) : null;
+		return value == null ? "" : value.toString();
+	}
+
+	private static boolean flag(List<?> row, int index) {
+		return index < row.size() && Boolean.TRUE.equals(row.get(index));
+	}
+
+	/**
+	 * Focus indicator styles of an element at one point of the walk.
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class FocusRing {
+		private final String outlineStyle;
+		private final String outlineWidth;
+		private final String outlineColor;
+		private final String border;
+		private final String boxShadow;
+
+		private static FocusRing fromRow(List<?> row, int offset) {
+			return new FocusRing(string(row, offset), string(row, offset + 1), string(row, offset + 2),
+					string(row, offset + 3), string(row, offset + 4));
+		}
+
+		public boolean hasOutline() {
+			return !outlineStyle.isEmpty() && !"none".equals(outlineStyle) && !outlineWidth.startsWith("0");
+		}
+	}
+
+	@Getter
+	public static class Target {
+		private final String tagName;
+		private final String id;
+		private final String className;
+		private final String text;
+		/** The tabindex attribute as written, or null when absent. */
+		private final String tabindex;
+		private final boolean displayed;
+		private final boolean enabled;
+		/** Whether calling focus() actually moved focus to the element. */
+		private final boolean focusable;
+		private final boolean focusOrderCandidate;
+		private final boolean focusVisibleCandidate;
+		/** Outer HTML, kept only for elements with an explicit tabindex. */
+		private final String html;
+		private final FocusRing beforeFocus;
+		private final FocusRing afterFocus;
+		private boolean inTabOrder;
+
+		private Target(List<?> row) {
+			this.tagName = string(row, 0);
+			this.id = string(row, 1);
+			this.className = string(row, 2);
+			this.text = string(row, 3);
+			this.tabindex = row.size() > 4 && row.get(4) != null ? row.get(4).toString() : null;
+			this.displayed = flag(row, 5);
+			this.enabled = flag(row, 6);
+			this.focusable = flag(row, 7);
+			this.focusOrderCandidate = flag(row, 8);
+			this.focusVisibleCandidate = flag(row, 9);
+			this.html = string(row, 10);
+			this.beforeFocus = FocusRing.fromRow(row, 11);
+			this.afterFocus = FocusRing.fromRow(row, 16);
+		}
+
+		private static Target fromRow(List<?> row) {
+			return new Target(row);
+		}
+
+		/**
+		 * Whether focusing the element shows an indicator: an outline while
+		 * focused, or a border or box-shadow that changes on focus.
+		 */
+		public boolean hasVisibleFocusIndicator() {
+			return afterFocus.hasOutline() || !afterFocus.getBorder().equals(beforeFocus.getBorder())
+					|| !afterFocus.getBoxShadow().equals(beforeFocus.getBoxShadow());
+		}
+
+		/**
+		 * Selector in the same form the transformer derives from a WebElement:
+		 * tag plus id, or tag plus classes when there is no id.
+		 */
+		public String toSelector() {
+			return ElementSelector.of(tagName, id, className);
+		}
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class Container {
+		private final String tagName;
+		private final String id;
+		private final String className;
+		private final String text;
+		private final boolean displayed;
+		private final boolean enabled;
+		/**
+		 * Whether Tab from the last focusable descendant was held inside the
+		 * container and Escape did not release it either.
+		 */
+		private final boolean trapped;
+
+		private static Container fromRow(List<?> row) {
+			return new Container(string(row, 0), string(row, 1), string(row, 2), string(row, 3), flag(row, 4),
+					flag(row, 5), flag(row, 6));
+		}
+
+		public String toSelector() {
+			return ElementSelector.of(tagName, id, className);
+		}
+	}
+}
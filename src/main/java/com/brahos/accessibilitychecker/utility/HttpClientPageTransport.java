@@ -0,0 +1,326 @@
+package com.brahos.accessibilitychecker.utility;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.brahos.accessibilitychecker.exception.AccessibilityServiceException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * {@link PageTransport} on one shared java.net.http.HttpClient, so every page
+ * of a host reuses pooled connections and, where the server supports it, one
+ * multiplexed HTTP/2 connection instead of a TLS handshake per page. Requests
+ * per host are capped, bodies are decompressed and cut off at a byte budget,
+ * and connection failures, 429 and 5xx responses are retried with a growing
+ * delay. The request timeout covers each attempt as a whole, from sending the
+ * request to the last byte of the body.
+ */
+@Component
+public class HttpClientPageTransport implements PageTransport {
+
+	private static final Logger logger = LoggerFactory.getLogger(HttpClientPageTransport.class);
+
+	private static final Pattern CHARSET = Pattern.compile("charset\\s*=\\s*[\"']?([\\w.:-]+)",
+			Pattern.CASE_INSENSITIVE);
+
+	/** Bytes searched for a meta charset when the headers name none. */
+	private static final int CHARSET_SNIFF_BYTES = 2048;
+
+	@Value("${page.fetch.connect-timeout-ms:10000}")
+	private long connectTimeoutMillis;
+
+	@Value("${page.fetch.max-connections-per-host:6}")
+	private int maxConnectionsPerHost;
+
+	@Value("${page.fetch.max-body-bytes:10485760}")
+	private int maxBodyBytes;
+
+	@Value("${page.fetch.retries:2}")
+	private int retries;
+
+	@Value("${page.fetch.retry-delay-ms:500}")
+	private long retryDelayMillis;
+
+	/** Permits of the hosts with requests in flight; a host is dropped once it has none. */
+	private final Map<String, HostPermits> hosts = new ConcurrentHashMap<>();
+
+	private HttpClient client;
+
+	@PostConstruct
+	public void init() {
+		client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2)
+				.connectTimeout(Duration.ofMillis(connectTimeoutMillis)).followRedirects(HttpClient.Redirect.NORMAL)
+				.build();
+		logger.info("Page transport using HTTP/2 with {} requests per host and a {} byte body budget.",
+				maxConnectionsPerHost, maxBodyBytes);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		client.close();
+	}
+
+	@Override
+	public Response get(URI uri, Map<String, String> headers, Duration timeout) throws IOException {
+		HttpRequest.Builder request = HttpRequest.newBuilder(uri).timeout(timeout).GET()
+				.header("Accept-Encoding", "gzip, deflate");
+		headers.forEach(request::header);
+
+		String host = hostOf(uri);
+		HostPermits permits = hosts.compute(host, (key, existing) -> {
+			HostPermits current = existing != null ? existing : new HostPermits(maxConnectionsPerHost);
+			current.users++;
+			return current;
+		});
+		try {
+			permits.semaphore.acquire();
+			try {
+				return send(request.build(), timeout);
+			} finally {
+				permits.semaphore.release();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AccessibilityServiceException("Interrupted while fetching " + uri, e);
+		} finally {
+			hosts.computeIfPresent(host, (key, current) -> --current.users == 0 ? null : current);
+		}
+	}
+
+	private Response send(HttpRequest request, Duration timeout) throws IOException, InterruptedException {
+		for (int attempt = 0;; attempt++) {
+			HttpResponse<byte[]> response;
+			try {
+				response = exchange(request, timeout);
+			} catch (IOException e) {
+				if (attempt >= retries || e instanceof BodyTooLargeException) {
+					throw e;
+				}
+				logger.warn("Fetching {} failed ({}); retrying.", request.uri(), e.getMessage());
+				Thread.sleep(retryDelayMillis * (attempt + 1));
+				continue;
+			}
+
+			int status = response.statusCode();
+			if ((status == 429 || status >= 500) && attempt < retries) {
+				logger.warn("Fetching {} returned {}; retrying.", request.uri(), status);
+				Thread.sleep(retryDelayMillis * (attempt + 1));
+				continue;
+			}
+			return toResponse(response);
+		}
+	}
+
+	/**
+	 * One attempt, bounded by the timeout from sending the request until the
+	 * whole body has arrived; a server that trickles its body is cut off too.
+	 */
+	private HttpResponse<byte[]> exchange(HttpRequest request, Duration timeout)
+			throws IOException, InterruptedException {
+		CompletableFuture<HttpResponse<byte[]>> future = client.sendAsync(request,
+				info -> new BoundedBody(request.uri(), maxBodyBytes));
+		try {
+			return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			throw new HttpTimeoutException("Fetching " + request.uri() + " took longer than " + timeout.toMillis()
+					+ " ms.");
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			throw e;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException io) {
+				throw io;
+			}
+			if (e.getCause() instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			throw new IOException("Fetching " + request.uri() + " failed.", e.getCause());
+		}
+	}
+
+	private Response toResponse(HttpResponse<byte[]> response) throws IOException {
+		Map<String, String> headers = new HashMap<>();
+		response.headers().map().forEach((name, values) -> {
+			if (!values.isEmpty()) {
+				headers.put(name.toLowerCase(Locale.ROOT), values.get(0));
+			}
+		});
+
+		byte[] bytes;
+		InputStream raw = new ByteArrayInputStream(response.body());
+		try (InputStream body = decode(raw, headers.get("content-encoding"))) {
+			bytes = body.readNBytes(maxBodyBytes + 1);
+		}
+		if (bytes.length > maxBodyBytes) {
+			throw new BodyTooLargeException(response.uri(), maxBodyBytes);
+		}
+		return new Response(response.uri(), response.statusCode(), headers,
+				new String(bytes, charsetOf(headers.get("content-type"), bytes)));
+	}
+
+	private static InputStream decode(InputStream body, String encoding) throws IOException {
+		if (encoding == null) {
+			return body;
+		}
+		switch (encoding.trim().toLowerCase(Locale.ROOT)) {
+		case "gzip", "x-gzip":
+			return new GZIPInputStream(body);
+		case "deflate":
+			return new InflaterInputStream(body);
+		default:
+			return body;
+		}
+	}
+
+	/**
+	 * Charset from the Content-Type header, else from a meta tag near the
+	 * start of the document, else UTF-8.
+	 */
+	private static Charset charsetOf(String contentType, byte[] bytes) {
+		String name = contentType != null ? charsetName(contentType) : null;
+		if (name == null) {
+			int length = Math.min(bytes.length, CHARSET_SNIFF_BYTES);
+			String head = new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+			for (String candidate : List.of("<meta charset", "<meta http-equiv")) {
+				int meta = head.toLowerCase(Locale.ROOT).indexOf(candidate);
+				if (meta >= 0) {
+					name = charsetName(head.substring(meta, Math.min(head.length(), meta + 200)));
+					break;
+				}
+			}
+		}
+		if (name != null) {
+			try {
+				return Charset.forName(name);
+			} catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+				logger.debug("Unknown charset {}; decoding as UTF-8.", name);
+			}
+		}
+		return StandardCharsets.UTF_8;
+	}
+
+	private static String charsetName(String value) {
+		Matcher matcher = CHARSET.matcher(value);
+		return matcher.find() ? matcher.group(1) : null;
+	}
+
+	private static final class HostPermits {
+
+		private final Semaphore semaphore;
+
+		/** Requests holding or waiting for a permit; changed only inside the map's compute. */
+		private int users;
+
+		HostPermits(int maxConnections) {
+			this.semaphore = new Semaphore(Math.max(1, maxConnections), true);
+		}
+	}
+
+	/**
+	 * Collects the raw body, failing as soon as it outgrows the byte budget, so
+	 * the response completes only once the whole body is in.
+	 */
+	private static final class BoundedBody implements HttpResponse.BodySubscriber<byte[]> {
+
+		private final URI uri;
+		private final int limit;
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		private final CompletableFuture<byte[]> result = new CompletableFuture<>();
+		private Flow.Subscription subscription;
+
+		BoundedBody(URI uri, int limit) {
+			this.uri = uri;
+			this.limit = limit;
+		}
+
+		@Override
+		public CompletionStage<byte[]> getBody() {
+			return result;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			subscription.request(Long.MAX_VALUE);
+		}
+
+		@Override
+		public void onNext(List<ByteBuffer> buffers) {
+			if (result.isDone()) {
+				return;
+			}
+			for (ByteBuffer buffer : buffers) {
+				if (bytes.size() + (long) buffer.remaining() > limit) {
+					subscription.cancel();
+					result.completeExceptionally(new BodyTooLargeException(uri, limit));
+					return;
+				}
+				byte[] chunk = new byte[buffer.remaining()];
+				buffer.get(chunk);
+				bytes.write(chunk, 0, chunk.length);
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			result.completeExceptionally(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			result.complete(bytes.toByteArray());
+		}
+	}
+
+	/** A body over the budget; not retried, since the page will not shrink. */
+	private static final class BodyTooLargeException extends IOException {
+
+		private static final long serialVersionUID = 1L;
+
+		BodyTooLargeException(URI uri, int limit) {
+			super("Page " + uri + " exceeds the fetch budget of " + limit + " bytes.");
+		}
+	}
+
+	private static String hostOf(URI uri) {
+		String host = uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : "";
+		return host + ":" + uri.getPort();
+	}
+}
@@ -0,0 +1,127 @@
+package com.brahos.accessibilitychecker.utility;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.jsoup.HttpStatusException;
+import org.jsoup.UnsupportedMimeTypeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.brahos.accessibilitychecker.model.StoredPage;
+import com.brahos.accessibilitychecker.repository.StoredPageRepository;
+
+/**
+ * Fetches pages for scanning with conditional GETs. The ETag, Last-Modified
+ * and body of each page are kept in the page store; when the server answers
+ * 304 the stored body is used and its digest, unchanged, lets the page result
+ * cache answer without parsing or scanning. The download itself goes through
+ * the {@link PageTransport}. A page store failure only costs the conditional
+ * request.
+ */
+@Component
+public class PageFetcher {
+
+	private static final Logger logger = LoggerFactory.getLogger(PageFetcher.class);
+
+	private static final String DEFAULT_USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+			+ "(KHTML, like Gecko) Chrome/96.0.4664.110 Safari/537.36";
+
+	/** Content types scanned as markup, as Jsoup accepts them. */
+	private static final Pattern HTML_TYPES = Pattern.compile("(text/|application/([\\w.-]+\\+)?xml)",
+			Pattern.CASE_INSENSITIVE);
+
+	@Value("${page.fetch.timeout-ms:30000}")
+	private int timeoutMillis;
+
+	/** Sent as User-Agent when set; blank sends a desktop Chrome one. */
+	@Value("${page.fetch.user-agent:}")
+	private String userAgent;
+
+	@Value("${page.fetch.conditional-enabled:true}")
+	private boolean conditionalEnabled;
+
+	private final PageTransport pageTransport;
+	private final StoredPageRepository storedPageRepository;
+
+	public PageFetcher(PageTransport pageTransport, StoredPageRepository storedPageRepository) {
+		this.pageTransport = pageTransport;
+		this.storedPageRepository = storedPageRepository;
+	}
+
+	public FetchedPage fetch(URI uri) throws IOException {
+		return fetch(uri, Duration.ofMillis(timeoutMillis), userAgent.isBlank() ? DEFAULT_USER_AGENT : userAgent);
+	}
+
+	/**
+	 * Fetches with a request timeout and User-Agent other than the configured
+	 * ones.
+	 */
+	public FetchedPage fetch(URI uri, Duration timeout, String userAgent) throws IOException {
+		String url = uri.toString();
+		String key = PageResultCache.normalize(url);
+		StoredPage stored = conditionalEnabled ? load(key) : null;
+
+		Map<String, String> headers = new HashMap<>();
+		headers.put("User-Agent", userAgent);
+		headers.put("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8");
+		if (stored != null) {
+			if (stored.getEtag() != null) {
+				headers.put("If-None-Match", stored.getEtag());
+			}
+			if (stored.getLastModified() != null) {
+				headers.put("If-Modified-Since", stored.getLastModified());
+			}
+		}
+
+		PageTransport.Response response = pageTransport.get(uri, headers, timeout);
+		int status = response.getStatus();
+		if (status == 304 && stored != null) {
+			logger.info("Page {} not modified since {}.", url, stored.getFetchedAt());
+			return new FetchedPage(response.getUri().toString(), stored.getBody(), stored.getDigest(), true);
+		}
+		if (status < 200 || status >= 300) {
+			throw new HttpStatusException("HTTP error fetching URL", status, url);
+		}
+		String contentType = response.header("Content-Type");
+		if (contentType != null && !HTML_TYPES.matcher(contentType).lookingAt()) {
+			throw new UnsupportedMimeTypeException("Unhandled content type", contentType, url);
+		}
+
+		String body = response.getBody();
+		String digest = PageResultCache.sha256(body);
+		String etag = response.header("ETag");
+		String lastModified = response.header("Last-Modified");
+		if (conditionalEnabled && (etag != null || lastModified != null)) {
+			save(StoredPage.builder().url(key).etag(etag).lastModified(lastModified).digest(digest).body(body)
+					.fetchedAt(Instant.now()).build());
+		}
+		return new FetchedPage(response.getUri().toString(), body, digest, false);
+	}
+
+	private StoredPage load(String key) {
+		try {
+			Optional<StoredPage> stored = storedPageRepository.findById(key);
+			return stored.filter(page -> page.getBody() != null && page.getDigest() != null).orElse(null);
+		} catch (RuntimeException e) {
+			logger.warn("Page store read failed for {}; fetching unconditionally. {}", key, e.getMessage());
+			return null;
+		}
+	}
+
+	private void save(StoredPage page) {
+		try {
+			storedPageRepository.save(page);
+		} catch (RuntimeException e) {
+			logger.warn("Page store write failed for {}. {}", page.getUrl(), e.getMessage());
+		}
+	}
+}
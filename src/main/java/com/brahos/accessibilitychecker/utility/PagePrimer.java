@@ -0,0 +1,71 @@
+package com.brahos.accessibilitychecker.utility;
+
+import java.nio.charset.StandardCharsets;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves a page load from what the scan already downloaded: while installed,
+ * the browser's request for the page itself is answered with the fetched body
+ * and static assets come from the shared {@link AssetCache}, so the origin
+ * sees one request per page instead of two. Uses Chrome DevTools request
+ * interception; a browser without DevTools simply loads from the network.
+ */
+class PagePrimer implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(PagePrimer.class);
+
+	private final NetworkInterceptor interceptor;
+
+	private PagePrimer(NetworkInterceptor interceptor) {
+		this.interceptor = interceptor;
+	}
+
+	/**
+	 * Starts intercepting the browser's requests.
+	 *
+	 * @param url  The page URL the browser is about to load
+	 * @param body The page as already fetched, or null to only serve assets
+	 * @return The installed primer, or null when interception is unavailable
+	 */
+	static PagePrimer install(WebDriver driver, String url, String body, AssetCache assets) {
+		String page = PageResultCache.normalize(url);
+		byte[] document = body != null ? body.getBytes(StandardCharsets.UTF_8) : null;
+		Filter filter = next -> request -> {
+			boolean get = request.getMethod() == HttpMethod.GET;
+			if (get && document != null && page.equals(PageResultCache.normalize(request.getUri()))) {
+				HttpResponse response = new HttpResponse().setStatus(200);
+				response.setHeader("Content-Type", "text/html; charset=utf-8");
+				response.setContent(Contents.bytes(document));
+				return response;
+			}
+			return get ? assets.fetch(request, next) : next.execute(request);
+		};
+
+		try {
+			WebDriver target = driver instanceof HasDevTools ? driver : new Augmenter().augment(driver);
+			return new PagePrimer(new NetworkInterceptor(target, filter));
+		} catch (RuntimeException e) {
+			logger.warn("Request interception unavailable; loading {} from the network. {}", url, e.getMessage());
+			return null;
+		}
+	}
+
+	@Override
+	public void close() {
+		try {
+			interceptor.close();
+		} catch (RuntimeException e) {
+			logger.debug("Failed to remove request interception: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package com.brahos.accessibilitychecker.utility;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Explicit readiness gate run once after a page is loaded: the document has
+ * finished loading, no resource has completed for a quiet period (network
+ * idle), and an optional selector is present. With the gate in place rules can
+ * look elements up without any implicit wait.
+ */
+public final class PageReadiness {
+
+	private static final Logger logger = LoggerFactory.getLogger(PageReadiness.class);
+
+	private static final String SCRIPT = "var selector = arguments[0];"
+			+ "var entries = performance.getEntriesByType('resource');"
+			+ "var last = 0;"
+			+ "for (var i = 0; i < entries.length; i++) { last = Math.max(last, entries[i].responseEnd); }"
+			+ "var found = true;"
+			+ "if (selector) { try { found = document.querySelector(selector) !== null; } catch (e) { found = true; } }"
+			+ "return [document.readyState, performance.now() - last, found];";
+
+	private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+	private PageReadiness() {
+	}
+
+	/**
+	 * Waits until the page is ready or the timeout elapses. A page that never
+	 * settles (long polling, streaming media) is used as-is after the timeout.
+	 *
+	 * @param selector CSS selector that must be present, or null/blank for none
+	 */
+	public static void await(WebDriver driver, Duration timeout, Duration networkIdle, String selector) {
+		String required = selector == null || selector.isBlank() ? null : selector;
+		long idleMillis = networkIdle.toMillis();
+		try {
+			new WebDriverWait(driver, timeout, POLL_INTERVAL).until(d -> {
+				Object result = ((JavascriptExecutor) d).executeScript(SCRIPT, required);
+				if (!(result instanceof List<?> state) || state.size() < 3) {
+					return false;
+				}
+				boolean complete = "complete".equals(state.get(0));
+				boolean idle = state.get(1) instanceof Number quiet && quiet.doubleValue() >= idleMillis;
+				return complete && idle && Boolean.TRUE.equals(state.get(2));
+			});
+		} catch (TimeoutException e) {
+			logger.warn("Page {} not ready after {}s; continuing with its current state.", driver.getCurrentUrl(),
+					timeout.toSeconds());
+		}
+	}
+}
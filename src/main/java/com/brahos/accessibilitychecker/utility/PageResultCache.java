@@ -0,0 +1,288 @@
+package com.brahos.accessibilitychecker.utility;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.nodes.Element;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.brahos.accessibilitychecker.model.GuidelineData;
+import com.brahos.accessibilitychecker.model.GuidelineHandler;
+import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.brahos.accessibilitychecker.model.ScanOptions;
+import com.brahos.accessibilitychecker.service.impl.GuidelineHandlerRegistry;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Per-page results keyed by what they were computed from: the normalized URL,
+ * a digest of the fetched HTML, the WCAG version and level, the scan options
+ * and the rule set. Browser-backed results also depend on the page's styles,
+ * so their key includes a digest of every linked stylesheet. A page whose
+ * markup and stylesheets have not changed since its last scan gets its stored
+ * result back without any rule being run. Cache failures are logged and the
+ * page is evaluated as usual.
+ */
+@Component
+public class PageResultCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(PageResultCache.class);
+
+	public static final String CACHE_NAME = "pageResults";
+
+	@Value("${scan.cache.enabled:true}")
+	private boolean enabled;
+
+	/**
+	 * Bumped when rule logic changes without the registered rules changing, so
+	 * results of the previous rules are not served.
+	 */
+	@Value("${scan.cache.rule-set-version:1}")
+	private String ruleSetVersion;
+
+	/** Pages linking more stylesheets than this are evaluated without the cache. */
+	@Value("${scan.cache.max-stylesheets:20}")
+	private int maxStylesheets;
+
+	/**
+	 * How long a stylesheet's digest is trusted before it is requested again,
+	 * so the pages of one scan sharing a stylesheet check it once.
+	 */
+	@Value("${scan.cache.stylesheet-recheck-seconds:60}")
+	private long stylesheetRecheckSeconds;
+
+	private static final int MAX_CHECKED_STYLESHEETS = 1000;
+
+	private final CacheManager cacheManager;
+	private final GuidelineHandlerRegistry guidelineHandlerRegistry;
+	private final PageFetcher pageFetcher;
+	private final ScanPipeline scanPipeline;
+
+	private final Map<String, CheckedStylesheet> stylesheets = new ConcurrentHashMap<>();
+
+	private Cache cache;
+	private String ruleSet;
+
+	/**
+	 * Evaluates a page when it is not cached.
+	 */
+	@FunctionalInterface
+	public interface PageEvaluation {
+		GuidelineResponse evaluate() throws IOException;
+	}
+
+	public PageResultCache(CacheManager cacheManager, GuidelineHandlerRegistry guidelineHandlerRegistry,
+			PageFetcher pageFetcher, ScanPipeline scanPipeline) {
+		this.cacheManager = cacheManager;
+		this.guidelineHandlerRegistry = guidelineHandlerRegistry;
+		this.pageFetcher = pageFetcher;
+		this.scanPipeline = scanPipeline;
+	}
+
+	@PostConstruct
+	public void init() {
+		cache = enabled ? cacheManager.getCache(CACHE_NAME) : null;
+		StringBuilder rules = new StringBuilder(ruleSetVersion);
+		for (GuidelineHandler handler : guidelineHandlerRegistry.getAll()) {
+			rules.append('|').append(handler.getName()).append(':').append(handler.getCriterion()).append(':')
+					.append(handler.getCost());
+		}
+		ruleSet = sha256(rules.toString()).substring(0, 16);
+		logger.info("Page result cache {} (rule set {}).", cache != null ? "enabled" : "disabled", ruleSet);
+	}
+
+	/**
+	 * Returns the stored result for this page content, or evaluates the page
+	 * and stores its result. Results with incomplete guidelines are not stored
+	 * so the next scan retries them, and a browser-backed page whose
+	 * stylesheets cannot all be checked is evaluated without the cache.
+	 */
+	public GuidelineResponse getOrEvaluate(String url, String wcagVersion, String level, FetchedPage page,
+			String scanId, ScanOptions options, PageEvaluation evaluation) throws IOException {
+		if (cache == null) {
+			return evaluation.evaluate();
+		}
+
+		String styles = options != null && options.isStaticOnly() ? "" : stylesheetDigest(page);
+		if (styles == null) {
+			return evaluation.evaluate();
+		}
+
+		String key = key(url, wcagVersion, level, page.getDigest(), styles, options);
+		GuidelineResponse cached = read(key);
+		if (cached != null) {
+			logger.info("Reusing cached result for unchanged page {}.", url);
+			cached.setId(null);
+			cached.setScanId(scanId);
+			cached.setPageUrl(url);
+			cached.setJobId(null);
+			return cached;
+		}
+
+		GuidelineResponse response = evaluation.evaluate();
+		if (response != null && response.getData().stream().noneMatch(GuidelineData::isIncomplete)) {
+			write(key, response);
+		}
+		return response;
+	}
+
+	private GuidelineResponse read(String key) {
+		try {
+			return cache.get(key, GuidelineResponse.class);
+		} catch (RuntimeException e) {
+			logger.warn("Page result cache read failed; evaluating the page. {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private void write(String key, GuidelineResponse response) {
+		try {
+			cache.put(key, response);
+		} catch (RuntimeException e) {
+			logger.warn("Page result cache write failed. {}", e.getMessage());
+		}
+	}
+
+	private String key(String url, String wcagVersion, String level, String digest, String styles,
+			ScanOptions options) {
+		StringBuilder key = new StringBuilder(normalize(url)).append('|').append(digest)
+				.append('|').append(wcagVersion).append('|').append(level).append('|').append(ruleSet);
+		if (!styles.isEmpty()) {
+			key.append("|styles=").append(styles);
+		}
+		if (options != null) {
+			if (options.hasCriteria()) {
+				key.append("|criteria=").append(String.join(",", new TreeSet<>(options.getCriteria())));
+			}
+			if (options.isStaticOnly()) {
+				key.append("|static");
+			}
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Digest of the page's linked stylesheets in document order, each fetched
+	 * through the page store so an unchanged stylesheet costs a 304. Empty
+	 * when the page links none; null when the page links too many or one of
+	 * them cannot be fetched, so the result is not cached. Stylesheets pulled
+	 * in by @import are not followed.
+	 */
+	private String stylesheetDigest(FetchedPage page) {
+		Set<String> hrefs = new LinkedHashSet<>();
+		for (Element link : page.getDocument().select("link[rel][href]")) {
+			boolean stylesheet = false;
+			for (String rel : link.attr("rel").toLowerCase(Locale.ROOT).split("\\s+")) {
+				stylesheet |= rel.equals("stylesheet");
+			}
+			String href = link.absUrl("href");
+			if (stylesheet && (href.startsWith("http://") || href.startsWith("https://"))) {
+				hrefs.add(href);
+			}
+		}
+		if (hrefs.isEmpty()) {
+			return "";
+		}
+		if (hrefs.size() > maxStylesheets) {
+			logger.info("Page {} links {} stylesheets; evaluating it without the cache.", page.getUrl(), hrefs.size());
+			return null;
+		}
+
+		List<String> digests = new ArrayList<>(hrefs.size());
+		for (String href : hrefs) {
+			String digest = stylesheetDigest(href);
+			if (digest == null) {
+				logger.info("Stylesheet {} of page {} could not be checked; evaluating the page without the cache.",
+						href, page.getUrl());
+				return null;
+			}
+			digests.add(normalize(href) + "=" + digest);
+		}
+		return sha256(String.join("|", digests)).substring(0, 16);
+	}
+
+	private String stylesheetDigest(String href) {
+		long now = System.nanoTime();
+		CheckedStylesheet checked = stylesheets.get(href);
+		if (checked != null && now - checked.checkedAt < TimeUnit.SECONDS.toNanos(stylesheetRecheckSeconds)) {
+			return checked.digest;
+		}
+		try {
+			URI uri = new URI(href);
+			String digest = scanPipeline.politely(uri, () -> pageFetcher.fetch(uri)).getDigest();
+			if (stylesheets.size() >= MAX_CHECKED_STYLESHEETS) {
+				stylesheets.values().removeIf(stale -> now - stale.checkedAt >= TimeUnit.SECONDS
+						.toNanos(stylesheetRecheckSeconds));
+			}
+			if (stylesheets.size() < MAX_CHECKED_STYLESHEETS) {
+				stylesheets.put(href, new CheckedStylesheet(digest, now));
+			}
+			return digest;
+		} catch (URISyntaxException | IOException | RuntimeException e) {
+			logger.debug("Stylesheet {} could not be fetched. {}", href, e.getMessage());
+			return null;
+		}
+	}
+
+	private static final class CheckedStylesheet {
+
+		private final String digest;
+		private final long checkedAt;
+
+		CheckedStylesheet(String digest, long checkedAt) {
+			this.digest = digest;
+			this.checkedAt = checkedAt;
+		}
+	}
+
+	/**
+	 * Lower-cases scheme and host, drops default ports and fragments, and
+	 * gives an empty path "/", so trivially different spellings of a page
+	 * share an entry.
+	 */
+	static String normalize(String url) {
+		try {
+			URI uri = new URI(url.trim());
+			String scheme = uri.getScheme() != null ? uri.getScheme().toLowerCase(Locale.ROOT) : null;
+			String host = uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : null;
+			int port = uri.getPort();
+			if (("http".equals(scheme) && port == 80) || ("https".equals(scheme) && port == 443)) {
+				port = -1;
+			}
+			String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+			String query = uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "";
+			return scheme + "://" + host + (port != -1 ? ":" + port : "") + path + query;
+		} catch (URISyntaxException e) {
+			return url.trim();
+		}
+	}
+
+	static String sha256(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available.", e);
+		}
+	}
+}
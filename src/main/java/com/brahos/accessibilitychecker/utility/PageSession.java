@@ -0,0 +1,135 @@
+package com.brahos.accessibilitychecker.utility;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A page rendered once in a pooled browser and shared by every rule that
+ * evaluates it. Read-only rules run concurrently against the loaded page;
+ * rules that mutate it (inject elements, type, click, zoom or navigate away)
+ * run exclusively and force a reload for whoever reads next.
+ */
+public class PageSession {
+
+	private static final Logger logger = LoggerFactory.getLogger(PageSession.class);
+
+	private final WebDriverSession browser;
+	private final String url;
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(true);
+	private final Object navigationLock = new Object();
+	private volatile boolean loaded;
+	private volatile RenderedDom rendered;
+	private volatile FocusWalk focusWalk;
+	private int loadCount;
+
+	PageSession(WebDriverSession browser, String url) {
+		this.browser = browser;
+		this.url = url;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	/**
+	 * Returns the browser positioned on this page, loading it only if it is not
+	 * already loaded.
+	 */
+	public WebDriver driver() {
+		WebDriver driver = browser.driver();
+		if (!loaded) {
+			synchronized (navigationLock) {
+				if (!loaded) {
+					try (PagePrimer primer = browser.primer(driver, url)) {
+						driver.get(url);
+						WebDriverFactory.awaitPageReady(driver);
+					}
+					rendered = null;
+					loaded = true;
+					loadCount++;
+					logger.info("Loaded page {} (load #{}).", url, loadCount);
+				}
+			}
+		}
+		return driver;
+	}
+
+	/**
+	 * Returns the rendered DOM of this page, capturing it on first use. The
+	 * snapshot is shared until a mutating rule forces a reload.
+	 */
+	public RenderedDom rendered() {
+		RenderedDom snapshot = rendered;
+		if (snapshot == null) {
+			synchronized (navigationLock) {
+				WebDriver driver = driver();
+				snapshot = rendered;
+				if (snapshot == null) {
+					snapshot = RenderedDom.capture(driver, url);
+					rendered = snapshot;
+				}
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Returns the keyboard focus walk of this page, capturing it on first use.
+	 * The walk moves focus and sends key events, so it is taken under the
+	 * exclusive lock and the page is reloaded afterwards. The walk describes
+	 * the freshly loaded page and is kept for the life of the session.
+	 */
+	public FocusWalk focusWalk() throws InterruptedException {
+		FocusWalk walk = focusWalk;
+		if (walk != null) {
+			return walk;
+		}
+		if (lock.getReadHoldCount() > 0) {
+			throw new IllegalStateException("The focus walk of " + url + " must be captured before a shared rule runs.");
+		}
+		lock.writeLock().lockInterruptibly();
+		try {
+			walk = focusWalk;
+			if (walk == null) {
+				walk = FocusWalk.capture(driver());
+				focusWalk = walk;
+				loaded = false;
+				rendered = null;
+			}
+			return walk;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Runs a rule that only reads the rendered page.
+	 */
+	public <T> T shared(Callable<T> task) throws Exception {
+		lock.readLock().lockInterruptibly();
+		try {
+			return task.call();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Runs a rule that changes the page in isolation. The page is reloaded
+	 * before the next rule reads it.
+	 */
+	public <T> T exclusive(Callable<T> task) throws Exception {
+		lock.writeLock().lockInterruptibly();
+		try {
+			return task.call();
+		} finally {
+			loaded = false;
+			rendered = null;
+			lock.writeLock().unlock();
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package com.brahos.accessibilitychecker.utility;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The HTTP client {@link PageFetcher} downloads pages with. Implementations
+ * own connection reuse, retries of transient failures and body limits, and
+ * hand back the decoded body.
+ */
+public interface PageTransport {
+
+	/**
+	 * GETs the page, following redirects.
+	 *
+	 * @param headers Extra request headers, e.g. validators for a conditional
+	 *                GET
+	 * @throws IOException if the page cannot be downloaded or exceeds the
+	 *                     body budget
+	 */
+	Response get(URI uri, Map<String, String> headers, Duration timeout) throws IOException;
+
+	@Getter
+	@AllArgsConstructor
+	class Response {
+		/** Final URI after redirects. */
+		private final URI uri;
+		private final int status;
+		/** First value of each response header, keyed in lower case. */
+		private final Map<String, String> headers;
+		/** Decoded body; empty for responses without one. */
+		private final String body;
+
+		public String header(String name) {
+			return headers.get(name.toLowerCase(Locale.ROOT));
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package com.brahos.accessibilitychecker.utility;
+
+import org.jsoup.Jsoup;
+import org.jsoup.internal.StringUtil;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeFilter;
+import org.jsoup.select.NodeTraversor;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The page as the browser rendered it, serialized in one script call and
+ * parsed into a Jsoup document. Every element carries its computed visibility
+ * and bounding box, so rules that only read post-JavaScript markup and visible
+ * text can run in memory instead of calling getText/getAttribute per element
+ * over the wire.
+ */
+public class RenderedDom {
+
+	private static final Logger logger = LoggerFactory.getLogger(RenderedDom.class);
+
+	static final String HIDDEN_ATTR = "data-rd-hidden";
+	static final String RECT_ATTR = "data-rd-rect";
+
+	private static final String SCRIPT = "var root = document.documentElement, copy = root.cloneNode(true);"
+			+ "function mark(src, dst) {"
+			+ "  var s = getComputedStyle(src);"
+			+ "  if (s.display === 'none') { dst.setAttribute('" + HIDDEN_ATTR + "', 'display'); }"
+			+ "  else if (s.visibility === 'hidden' || s.visibility === 'collapse') {"
+			+ "    dst.setAttribute('" + HIDDEN_ATTR + "', 'visibility'); }"
+			+ "  var r = src.getBoundingClientRect();"
+			+ "  dst.setAttribute('" + RECT_ATTR + "', [Math.round(r.left + scrollX), Math.round(r.top + scrollY),"
+			+ "    Math.round(r.width), Math.round(r.height)].join(','));"
+			+ "}"
+			+ "mark(root, copy);"
+			+ "var src = root.getElementsByTagName('*'), dst = copy.getElementsByTagName('*');"
+			+ "for (var i = 0; i < src.length && i < dst.length; i++) { mark(src[i], dst[i]); }"
+			+ "return copy.outerHTML;";
+
+	private final Document document;
+
+	private RenderedDom(Document document) {
+		this.document = document;
+	}
+
+	/**
+	 * Serializes the page currently loaded in the browser.
+	 */
+	public static RenderedDom capture(WebDriver driver, String url) {
+		long start = System.nanoTime();
+		Object html = ((JavascriptExecutor) driver).executeScript(SCRIPT);
+		Document document = Jsoup.parse(html != null ? html.toString() : "", url);
+		logger.info("Captured rendered DOM of {} ({} elements) in {} ms.", url, document.getAllElements().size(),
+				(System.nanoTime() - start) / 1_000_000);
+		return new RenderedDom(document);
+	}
+
+	public Document getDocument() {
+		return document;
+	}
+
+	/**
+	 * Whether the element is rendered at all, that is neither it nor an
+	 * ancestor has display:none. Elements missing from the snapshot (added
+	 * after capture) are treated as displayed.
+	 */
+	public boolean isDisplayed(Element element) {
+		for (Element current = element; current != null; current = current.parent()) {
+			if ("display".equals(current.attr(HIDDEN_ATTR))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Bounding box as {x, y, width, height} in document coordinates, or null
+	 * when the element was not captured.
+	 */
+	public int[] rect(Element element) {
+		String value = element.attr(RECT_ATTR);
+		if (value.isEmpty()) {
+			return null;
+		}
+		String[] parts = value.split(",");
+		if (parts.length != 4) {
+			return null;
+		}
+		int[] rect = new int[4];
+		try {
+			for (int i = 0; i < 4; i++) {
+				rect[i] = Integer.parseInt(parts[i].trim());
+			}
+		} catch (NumberFormatException e) {
+			return null;
+		}
+		return rect;
+	}
+
+	/**
+	 * Visible text of the element, the in-memory counterpart of
+	 * WebElement.getText(): display:none subtrees, visibility:hidden text,
+	 * scripts and styles are skipped and whitespace is normalized.
+	 */
+	public String text(Element element) {
+		if (!isDisplayed(element)) {
+			return "";
+		}
+		StringBuilder text = StringUtil.borrowBuilder();
+		NodeTraversor.filter(new NodeFilter() {
+
+			@Override
+			public FilterResult head(Node node, int depth) {
+				if (node instanceof Element child) {
+					String tag = child.normalName();
+					if ("display".equals(child.attr(HIDDEN_ATTR)) || "script".equals(tag) || "style".equals(tag)
+							|| "noscript".equals(tag) || "template".equals(tag)) {
+						return FilterResult.SKIP_ENTIRELY;
+					}
+					if (child.isBlock() || "br".equals(tag)) {
+						text.append(' ');
+					}
+				} else if (node instanceof TextNode textNode && isVisibleText(textNode)) {
+					text.append(textNode.getWholeText());
+				}
+				return FilterResult.CONTINUE;
+			}
+
+			@Override
+			public FilterResult tail(Node node, int depth) {
+				if (node instanceof Element child && child.isBlock()) {
+					text.append(' ');
+				}
+				return FilterResult.CONTINUE;
+			}
+		}, element);
+		return StringUtil.normaliseWhitespace(StringUtil.releaseBuilder(text)).trim();
+	}
+
+	/**
+	 * Text nodes inherit visibility from their nearest element; a descendant
+	 * can make itself visible again inside a visibility:hidden parent.
+	 */
+	private boolean isVisibleText(TextNode node) {
+		Node parent = node.parentNode();
+		return !(parent instanceof Element owner) || !"visibility".equals(owner.attr(HIDDEN_ATTR));
+	}
+}
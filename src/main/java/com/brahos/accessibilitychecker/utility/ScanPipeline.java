@@ -0,0 +1,243 @@
+package com.brahos.accessibilitychecker.utility;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.brahos.accessibilitychecker.exception.AccessibilityServiceException;
+
+/**
+ * Scans the pages of a scan concurrently. Each scan gets its own bounded set of
+ * workers, every page runs with its own pooled browser session, and requests to
+ * the same host are throttled so a large scan does not hammer one site.
+ * Results are returned in the order the pages were given.
+ */
+@Component
+public class ScanPipeline {
+
+	private static final Logger logger = LoggerFactory.getLogger(ScanPipeline.class);
+
+	@Value("${scan.pipeline.max-concurrent-pages:4}")
+	private int maxConcurrentPages;
+
+	@Value("${scan.pipeline.max-requests-per-host:2}")
+	private int maxRequestsPerHost;
+
+	@Value("${scan.pipeline.host-delay-ms:250}")
+	private long hostDelayMillis;
+
+	@Autowired
+	private WebDriverPool webDriverPool;
+
+	private final Map<String, HostGate> hosts = new ConcurrentHashMap<>();
+
+	/** How often gates of hosts no longer being scanned are dropped. */
+	private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	private volatile long lastSweep = System.nanoTime();
+
+	private final AtomicInteger scanSequence = new AtomicInteger();
+
+	/**
+	 * Work done for a single page of a scan, given the page's position in the
+	 * input list.
+	 */
+	@FunctionalInterface
+	public interface PageTask<T> {
+		T process(int index, URI page) throws IOException;
+	}
+
+	/**
+	 * Runs the task for every page and returns the results in input order. The
+	 * first page that fails cancels the pages still pending and its exception
+	 * is rethrown.
+	 */
+	public <T> List<T> run(List<URI> pages, PageTask<T> task) throws IOException {
+		return run(pages, false, task);
+	}
+
+	/**
+	 * As {@link #run(List, PageTask)}; a static-only scan opens no browser
+	 * session for its pages.
+	 */
+	public <T> List<T> run(List<URI> pages, boolean staticOnly, PageTask<T> task) throws IOException {
+		if (pages.isEmpty()) {
+			return List.of();
+		}
+
+		int workers = Math.max(1, Math.min(maxConcurrentPages, pages.size()));
+		String prefix = "scan-" + scanSequence.incrementAndGet() + "-page-";
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(workers, r -> {
+			Thread thread = new Thread(r, prefix + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		logger.info("Scanning {} pages with {} workers{}.", pages.size(), workers, staticOnly ? " (static only)" : "");
+
+		try {
+			List<Future<T>> futures = new ArrayList<>(pages.size());
+			for (int i = 0; i < pages.size(); i++) {
+				int index = i;
+				futures.add(executor.submit(staticOnly ? () -> task.process(index, pages.get(index))
+						: () -> processPage(index, pages.get(index), task)));
+			}
+
+			List<T> results = new ArrayList<>(pages.size());
+			for (Future<T> future : futures) {
+				try {
+					results.add(future.get());
+				} catch (ExecutionException e) {
+					futures.forEach(pending -> pending.cancel(true));
+					rethrow(e.getCause());
+				}
+			}
+			return results;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AccessibilityServiceException("Interrupted while scanning pages.", e);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Runs a request against the page's host, waiting for a free slot on that
+	 * host and for the configured delay since the previous request to it.
+	 */
+	public <T> T politely(URI page, Callable<T> request) throws IOException {
+		sweepIdleHosts();
+		String host = hostOf(page);
+		HostGate gate = hosts.compute(host, (key, existing) -> {
+			HostGate current = existing != null ? existing : new HostGate(maxRequestsPerHost);
+			current.users++;
+			return current;
+		});
+		try {
+			try {
+				gate.acquire(hostDelayMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new AccessibilityServiceException("Interrupted while waiting to contact " + page.getHost(), e);
+			}
+			try {
+				return request.call();
+			} catch (IOException | RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new AccessibilityServiceException("Request to " + page + " failed.", e);
+			} finally {
+				gate.release();
+			}
+		} finally {
+			hosts.computeIfPresent(host, (key, current) -> {
+				current.users--;
+				return current;
+			});
+		}
+	}
+
+	/**
+	 * Drops the gates of hosts nobody is using whose delay has passed, so the
+	 * map only holds hosts scanned recently. A dropped gate is recreated on
+	 * the next request without owing any delay.
+	 */
+	private void sweepIdleHosts() {
+		long now = System.nanoTime();
+		if (now - lastSweep < SWEEP_INTERVAL_NANOS) {
+			return;
+		}
+		lastSweep = now;
+		for (String host : hosts.keySet()) {
+			hosts.computeIfPresent(host, (key, gate) -> gate.isIdle(now) ? null : gate);
+		}
+	}
+
+	private <T> T processPage(int index, URI page, PageTask<T> task) throws IOException {
+		WebDriverSession session = webDriverPool.openSession();
+		WebDriverFactory.bindSession(session);
+		try {
+			return task.process(index, page);
+		} finally {
+			WebDriverFactory.unbindSession();
+			session.close();
+		}
+	}
+
+	private static void rethrow(Throwable cause) throws IOException {
+		if (cause instanceof IOException io) {
+			throw io;
+		}
+		if (cause instanceof RuntimeException runtime) {
+			throw runtime;
+		}
+		if (cause instanceof Error error) {
+			throw error;
+		}
+		throw new AccessibilityServiceException("Page scan failed.", cause);
+	}
+
+	private static String hostOf(URI page) {
+		String host = page.getHost() != null ? page.getHost().toLowerCase(Locale.ROOT) : "";
+		return host + ":" + page.getPort();
+	}
+
+	private static final class HostGate {
+
+		private final Semaphore permits;
+		private long nextRequestAt;
+
+		/** Requests holding or waiting for this gate; changed only inside the map's compute. */
+		private int users;
+
+		HostGate(int maxRequests) {
+			this.permits = new Semaphore(Math.max(1, maxRequests), true);
+			this.nextRequestAt = System.nanoTime();
+		}
+
+		void acquire(long delayMillis) throws InterruptedException {
+			permits.acquire();
+			long wait;
+			synchronized (this) {
+				long now = System.nanoTime();
+				long start = Math.max(now, nextRequestAt);
+				nextRequestAt = start + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+				wait = start - now;
+			}
+			if (wait > 0) {
+				try {
+					TimeUnit.NANOSECONDS.sleep(wait);
+				} catch (InterruptedException e) {
+					permits.release();
+					throw e;
+				}
+			}
+		}
+
+		void release() {
+			permits.release();
+		}
+
+		synchronized boolean isIdle(long now) {
+			return users == 0 && now - nextRequestAt >= 0;
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package com.brahos.accessibilitychecker.utility;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.brahos.accessibilitychecker.model.GuidelineData;
+import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.brahos.accessibilitychecker.model.IssueDetails;
+import com.brahos.accessibilitychecker.model.IssueSnippet;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Keeps issue snippets small. Rules record the element's outer HTML, which for
+ * a container is most of the page; a snippet longer than
+ * scan.snippets.max-length is cut down to the element's opening tag. With
+ * scan.snippets.store-full the full markup is kept in issue_snippets, once per
+ * distinct content, and the issue points to it by digest.
+ */
+@Component
+public class SnippetPolicy {
+
+	private static final Logger logger = LoggerFactory.getLogger(SnippetPolicy.class);
+
+	private static final String ELLIPSIS = "…";
+
+	/** Longest snippet kept as recorded; 0 keeps every snippet whole. */
+	@Value("${scan.snippets.max-length:200}")
+	private int maxLength;
+
+	@Value("${scan.snippets.store-full:false}")
+	private boolean storeFull;
+
+	/** Digests recently written, so a scan repeating a snippet stores it once. */
+	@Value("${scan.snippets.recent-digests:10000}")
+	private int recentDigests;
+
+	private final MongoTemplate mongoTemplate;
+	private Map<String, Boolean> stored;
+
+	public SnippetPolicy(MongoTemplate mongoTemplate) {
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	@PostConstruct
+	public void init() {
+		int capacity = Math.max(1, recentDigests);
+		stored = new LinkedHashMap<>(256, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+				return size() > capacity;
+			}
+		};
+		logger.info("Snippets over {} characters are cut to their opening tag; full markup {}.", maxLength,
+				storeFull ? "stored" : "dropped");
+	}
+
+	/**
+	 * Applies the policy to every issue of the page result in place.
+	 * Identical snippets on the page are compacted and hashed once.
+	 */
+	public void apply(GuidelineResponse response) {
+		if (response == null || maxLength <= 0) {
+			return;
+		}
+		Map<String, String[]> compacted = new HashMap<>();
+		Map<String, String> pending = new LinkedHashMap<>();
+		for (GuidelineData guideline : response.getData()) {
+			if (guideline == null || guideline.getIssueDetails() == null) {
+				continue;
+			}
+			for (IssueDetails issue : guideline.getIssueDetails()) {
+				String snippet = issue.getSnippet();
+				if (snippet == null || snippet.length() <= maxLength) {
+					continue;
+				}
+				String[] compact = compacted.computeIfAbsent(snippet, full -> {
+					String digest = storeFull ? PageResultCache.sha256(full) : null;
+					if (digest != null && !isStored(digest)) {
+						pending.put(digest, full);
+					}
+					return new String[] { openTag(full), digest };
+				});
+				issue.setSnippet(compact[0]);
+				issue.setSnippetRef(compact[1]);
+			}
+		}
+		if (!pending.isEmpty() && !store(pending)) {
+			response.getData().stream().filter(guideline -> guideline != null && guideline.getIssueDetails() != null)
+					.flatMap(guideline -> guideline.getIssueDetails().stream())
+					.filter(issue -> issue.getSnippetRef() != null && pending.containsKey(issue.getSnippetRef()))
+					.forEach(issue -> issue.setSnippetRef(null));
+		}
+	}
+
+	/**
+	 * The opening tag of the markup, marked with an ellipsis. A '>' inside a
+	 * quoted attribute value does not end the tag; a tag longer than the
+	 * maximum length, and text that is not markup, are cut to that length.
+	 */
+	String openTag(String snippet) {
+		String trimmed = snippet.stripLeading();
+		int end = -1;
+		if (trimmed.startsWith("<")) {
+			char quote = 0;
+			for (int i = 1; i < trimmed.length() && i < maxLength; i++) {
+				char c = trimmed.charAt(i);
+				if (quote != 0) {
+					if (c == quote) {
+						quote = 0;
+					}
+				} else if (c == '"' || c == '\'') {
+					quote = c;
+				} else if (c == '>') {
+					end = i + 1;
+					break;
+				}
+			}
+		}
+		return (end > 0 ? trimmed.substring(0, end) : trimmed.substring(0, Math.min(maxLength, trimmed.length())))
+				+ ELLIPSIS;
+	}
+
+	private synchronized boolean isStored(String digest) {
+		return stored.get(digest) != null;
+	}
+
+	private synchronized void markStored(Iterable<String> digests) {
+		digests.forEach(digest -> stored.put(digest, Boolean.TRUE));
+	}
+
+	/**
+	 * Upserts the full markup by digest in one round-trip; existing entries
+	 * are left as they are.
+	 */
+	private boolean store(Map<String, String> pending) {
+		String now = Instant.now().toString();
+		try {
+			BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, IssueSnippet.class);
+			pending.forEach((digest, html) -> bulk.upsert(new Query(Criteria.where("_id").is(digest)),
+					new Update().setOnInsert("html", html).setOnInsert("createdAt", now)));
+			bulk.execute();
+			markStored(pending.keySet());
+			return true;
+		} catch (RuntimeException e) {
+			logger.warn("Failed to store {} full snippets; keeping the cut snippets only. {}", pending.size(),
+					e.getMessage());
+			return false;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.brahos.accessibilitychecker.utility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.jsoup.nodes.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dispatches the elements of a page to the static (non-browser) rules in one
+ * traversal. Rules register the tags, attributes and roles they care about at
+ * startup; while a page is open its {@link DomIndex} is built once and shared
+ * by every rule instead of each rule walking the whole tree with its own
+ * select.
+ */
+@Component
+public class StaticRuleEngine {
+
+	private static final Logger logger = LoggerFactory.getLogger(StaticRuleEngine.class);
+
+	/**
+	 * Elements counted as "checked" by the static rules when computing success
+	 * counts.
+	 */
+	public static final DomInterest CHECKED_ELEMENTS = DomInterest.builder().rule("checkedElements")
+			.tags(List.of("img", "svg", "picture", "figure", "video", "audio", "source", "track", "input", "textarea",
+					"select", "button", "label"))
+			.roles(List.of("img", "button", "checkbox", "link")).build();
+
+	private final List<DomInterest> interests = new ArrayList<>();
+	private final Map<Document, DomIndex> openPages = Collections.synchronizedMap(new IdentityHashMap<>());
+
+	private volatile Set<String> tags = Set.of();
+	private volatile Set<String> attributes = Set.of();
+	private volatile Set<String> roles = Set.of();
+
+	public StaticRuleEngine() {
+		register(CHECKED_ELEMENTS);
+	}
+
+	public synchronized void register(DomInterest interest) {
+		interests.add(interest);
+		Set<String> allTags = new HashSet<>(tags);
+		Set<String> allAttributes = new HashSet<>(attributes);
+		Set<String> allRoles = new HashSet<>(roles);
+		interest.getTags().forEach(tag -> allTags.add(tag.toLowerCase(Locale.ROOT)));
+		interest.getAttributes().forEach(attribute -> allAttributes.add(attribute.toLowerCase(Locale.ROOT)));
+		interest.getRoles().forEach(role -> allRoles.add(role.toLowerCase(Locale.ROOT)));
+		tags = Set.copyOf(allTags);
+		attributes = Set.copyOf(allAttributes);
+		roles = Set.copyOf(allRoles);
+		logger.debug("Registered DOM interest for rule {}.", interest.getRule());
+	}
+
+	public synchronized List<DomInterest> getInterests() {
+		return List.copyOf(interests);
+	}
+
+	/**
+	 * Indexes the page once and keeps the index until {@link #close(Document)}.
+	 */
+	public DomIndex open(Document document) {
+		synchronized (openPages) {
+			return openPages.computeIfAbsent(document, doc -> DomIndex.build(doc, tags, attributes, roles));
+		}
+	}
+
+	public void close(Document document) {
+		openPages.remove(document);
+	}
+
+	/**
+	 * Returns the shared index of an open page, or a one-off index when the
+	 * rule is invoked outside a scan.
+	 */
+	public DomIndex index(Document document) {
+		DomIndex index = openPages.get(document);
+		return index != null ? index : DomIndex.build(document, tags, attributes, roles);
+	}
+}
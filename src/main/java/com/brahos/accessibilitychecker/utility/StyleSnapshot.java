@@ -0,0 +1,135 @@
+package com.brahos.accessibilitychecker.utility;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Computed styles for a set of elements, collected from the rendered page in a
+ * single script call so contrast and typography rules can evaluate them in
+ * memory instead of issuing one getCssValue round-trip per property.
+ */
+public class StyleSnapshot {
+
+	private static final String SCRIPT = "var query = arguments[0], selectors = arguments[1];"
+			+ "function transparent(c) { return !c || c === 'transparent' || /^rgba\\(.*,\\s*0\\)$/.test(c); }"
+			+ "function effectiveBackground(el) {"
+			+ "  for (; el && el.nodeType === 1; el = el.parentElement) {"
+			+ "    var c = getComputedStyle(el).backgroundColor;"
+			+ "    if (!transparent(c)) { return c; }"
+			+ "  }"
+			+ "  return 'rgb(255, 255, 255)';"
+			+ "}"
+			+ "function row(el, key) {"
+			+ "  var s = getComputedStyle(el);"
+			+ "  return [key, el.tagName.toLowerCase(), el.id || '',"
+			+ "    typeof el.className === 'string' ? el.className : '',"
+			+ "    s.color, s.backgroundColor, effectiveBackground(el), s.fontSize, s.fontWeight, s.lineHeight,"
+			+ "    s.marginTop, s.marginBottom, s.textAlign, s.outlineStyle, s.outlineWidth, s.outlineColor,"
+			+ "    (el.innerText || '').trim()];"
+			+ "}"
+			+ "var out = [];"
+			+ "if (selectors) {"
+			+ "  for (var i = 0; i < selectors.length; i++) {"
+			+ "    var el = null;"
+			+ "    try { el = document.querySelector(selectors[i]); } catch (e) {}"
+			+ "    if (el) { out.push(row(el, selectors[i])); }"
+			+ "  }"
+			+ "} else {"
+			+ "  var els = document.querySelectorAll(query);"
+			+ "  for (var j = 0; j < els.length; j++) { out.push(row(els[j], String(j))); }"
+			+ "}"
+			+ "return out;";
+
+	private final Map<String, ElementStyle> elements;
+
+	private StyleSnapshot(Map<String, ElementStyle> elements) {
+		this.elements = elements;
+	}
+
+	/**
+	 * Captures every element matching the query, in document order, keyed by
+	 * its position in the match list.
+	 */
+	public static StyleSnapshot capture(WebDriver driver, String cssQuery) {
+		return execute(driver, cssQuery, null);
+	}
+
+	/**
+	 * Captures the first element matching each selector, keyed by the selector.
+	 * Selectors that match nothing are absent from the snapshot.
+	 */
+	public static StyleSnapshot capture(WebDriver driver, Collection<String> selectors) {
+		return execute(driver, null, new ArrayList<>(selectors));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static StyleSnapshot execute(WebDriver driver, String cssQuery, List<String> selectors) {
+		Object result = ((JavascriptExecutor) driver).executeScript(SCRIPT, cssQuery, selectors);
+		Map<String, ElementStyle> elements = new LinkedHashMap<>();
+		if (result instanceof List<?> rows) {
+			for (Object row : rows) {
+				ElementStyle style = ElementStyle.fromRow((List<Object>) row);
+				elements.put(style.getKey(), style);
+			}
+		}
+		return new StyleSnapshot(elements);
+	}
+
+	public ElementStyle get(String key) {
+		return elements.get(key);
+	}
+
+	public Collection<ElementStyle> getElements() {
+		return Collections.unmodifiableCollection(elements.values());
+	}
+
+	public int size() {
+		return elements.size();
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class ElementStyle {
+		private final String key;
+		private final String tagName;
+		private final String id;
+		private final String className;
+		private final String color;
+		private final String backgroundColor;
+		private final String effectiveBackgroundColor;
+		private final String fontSize;
+		private final String fontWeight;
+		private final String lineHeight;
+		private final String marginTop;
+		private final String marginBottom;
+		private final String textAlign;
+		private final String outlineStyle;
+		private final String outlineWidth;
+		private final String outlineColor;
+		private final String text;
+
+		private static ElementStyle fromRow(List<Object> row) {
+			String[] v = new String[row.size()];
+			for (int i = 0; i < v.length; i++) {
+				v[i] = row.get(i) == null ? "" : row.get(i).toString();
+			}
+			return new ElementStyle(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8], v[9], v[10], v[11], v[12],
+					v[13], v[14], v[15], v[16]);
+		}
+
+		/** Selector in the form every rule reports; see {@link ElementSelector}. */
+		public String toSelector() {
+			return ElementSelector.of(tagName, id, className);
+		}
+	}
+}
@@ -15,6 +15,7 @@ import org.springframework.stereotype.Component;
 import com.brahos.accessibilitychecker.model.GuidelineData;
 import com.brahos.accessibilitychecker.model.GuidelineResponse;
 import com.brahos.accessibilitychecker.model.IssueDetails;
+import com.brahos.accessibilitychecker.model.ScanOptions;
 import com.brahos.accessibilitychecker.repository.AccessibilityCheckerServiceRepository;
 import com.brahos.accessibilitychecker.service.GuidelineExecutorService;
 import com.brahos.accessibilitychecker.service.impl.AccessibilityGuidelinesServiceImpl_2_0_A;
@@ -39,6 +40,12 @@ public class WcagGuidelines_2_0_AllVersion {
 	@Autowired
 	GuidelineResponseBuilderServiceImpl guidelineResponseBuilderService;
 
+	@Autowired
+	private StaticRuleEngine staticRuleEngine;
+
+	@Autowired
+	private SnippetPolicy snippetPolicy;
+
 	public WcagGuidelines_2_0_AllVersion(GuidelineExecutorService guidelineExecutorService) {
 		this.guidelineExecutorService = guidelineExecutorService;
 	}
@@ -52,33 +59,25 @@ public class WcagGuidelines_2_0_AllVersion {
 	 * @param scanId
 	 * @param document
 	 * @param document    The parsed HTML document
-	 * @return A GuidelineResponse containing the results of the guideline checks
+	 * @param options     Narrows the scan to selected criteria; may be null
+	 * @return A GuidelineResponse containing the results of the guideline checks;
+	 *         callers persist it through ScanResultWriter once it is final
 	 * @throws JsonProcessingException
 	 */
 
 	public GuidelineResponse executeFilter(String url, String wcagVersion, String level, Document document,
-			String scanId) throws JsonProcessingException {
+			String scanId, ScanOptions options) throws JsonProcessingException {
 		List<GuidelineData> combinedData = new ArrayList<>();
 		int issueCount = 0;
 		int successCount = 0;
+		int incompleteCount = 0;
 
-		// Handle different levels (A, AA, AAA)
-		switch (level) {
-		case "A":
-			addGuidelineData(combinedData, guidelineExecutorService.executeGuidelinesA(document, url));
-			break;
-		case "AA":
-			addGuidelineData(combinedData, guidelineExecutorService.executeGuidelinesA(document, url));
-			addGuidelineData(combinedData, guidelineExecutorService.executeGuidelinesAA(document, url));
-			break;
-		case "AAA":
-			addGuidelineData(combinedData, guidelineExecutorService.executeGuidelinesA(document, url));
-			addGuidelineData(combinedData, guidelineExecutorService.executeGuidelinesAA(document, url));
-			addGuidelineData(combinedData, guidelineExecutorService.executeGuidelinesAAA(document, url));
-			break;
-		default:
-			logger.error("Unsupported WCAG level: {}", level);
-			throw new IllegalArgumentException("Unsupported WCAG level: " + level);
+		// Static rules share one traversal of the document for the whole page
+		staticRuleEngine.open(document);
+		try {
+			executeLevels(combinedData, url, level, document, options);
+		} finally {
+			staticRuleEngine.close(document);
 		}
 
 		// Calculate issue and success count
@@ -88,6 +87,12 @@ public class WcagGuidelines_2_0_AllVersion {
 				continue;
 			}
 
+			if (data.isIncomplete()) {
+				logger.warn("Guideline {} incomplete: {}", data.getGuideline(), data.getIncompleteReason());
+				incompleteCount++;
+				continue;
+			}
+
 			List<IssueDetails> issueDetails = data.getIssueDetails();
 			if (issueDetails != null && !issueDetails.isEmpty()) {
 				issueCount++;
@@ -100,32 +105,46 @@ public class WcagGuidelines_2_0_AllVersion {
 
 		logger.info("Total issues found: {}", issueCount);
 		logger.info("Total successful guidelines: {}", successCount);
+		logger.info("Total incomplete guidelines: {}", incompleteCount);
 
 		// Build the response object
 		GuidelineResponse response = null;
 		if (combinedData.size() > 0) {
-			response = buildGuidelineResponse(url, scanId, combinedData, issueCount, successCount);
-		}
-
-		// Save the response to MongoDB
-		try {
-			// accessibilityCheckerRepository.save(response);
-			logger.info("GuidelineResponse saved to MongoDB for URL: {}", url);
-		} catch (Exception e) {
-			logger.error("Failed to save GuidelineResponse to MongoDB.", e);
-			throw new RuntimeException("Failed to save data to MongoDB.", e);
+			// A criteria subset or static scan is scored against the guidelines
+			// it ran, not the whole catalogue. Incomplete guidelines are never
+			// counted as successes.
+			int guidelineTotal = options != null && (options.hasCriteria() || options.isStaticOnly())
+					? issueCount + successCount + incompleteCount
+					: totalGuidelineCount;
+			response = buildGuidelineResponse(url, scanId, combinedData, issueCount, incompleteCount,
+					guidelineTotal);
+			snippetPolicy.apply(response);
 		}
 
 		return response;
 	}
 
+	/**
+	 * Runs the requested level and its lower levels as one batch of guidelines,
+	 * limited to the requested criteria when there are any and to the static
+	 * rules in a static-only scan.
+	 */
+	private void executeLevels(List<GuidelineData> combinedData, String url, String level, Document document,
+			ScanOptions options) throws JsonProcessingException {
+		if (!"A".equals(level) && !"AA".equals(level) && !"AAA".equals(level)) {
+			logger.error("Unsupported WCAG level: {}", level);
+			throw new IllegalArgumentException("Unsupported WCAG level: " + level);
+		}
+		addGuidelineData(combinedData, guidelineExecutorService.executeGuidelines(document, url, level, options));
+	}
+
 	/**
 	 * Builds the GuidelineResponse object.
 	 */
 	private GuidelineResponse buildGuidelineResponse(String url, String scanId, List<GuidelineData> combinedData,
-			int issueCount, int successCount) {
+			int issueCount, int incompleteCount, int guidelineTotal) {
 
-		int totalSuccessCount = totalGuidelineCount - issueCount;
+		int totalSuccessCount = Math.max(0, guidelineTotal - issueCount - incompleteCount);
 
 		int totalIssueCount = wcagAccessibilityGuidelines_2_0_A.getTotalIssueCount();
 
@@ -147,6 +166,7 @@ public class WcagGuidelines_2_0_AllVersion {
 
 		response.setGuidelineIssueCount(issueCount); // overall
 		response.setGuidelineSuccessCount(totalSuccessCount); // overall
+		response.setGuidelineIncompleteCount(incompleteCount);
 		response.setPageUrl(url);
 		response.setScanId(scanId);
 		response.setCreatedAt(createdAt);
@@ -4,6 +4,7 @@ import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 
 import org.openqa.selenium.WebDriver;
@@ -13,8 +14,11 @@ import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.brahos.accessibilitychecker.exception.AccessibilityServiceException;
+
 @Component
 public class WebDriverFactory {
 
@@ -22,15 +26,114 @@ public class WebDriverFactory {
     private static WebDriver driver;
     private static final Object lock = new Object();
     private static final int MAX_RETRIES = 3;
+    private static final ThreadLocal<WebDriverSession> SESSION = new ThreadLocal<>();
+
+    // Lookup profile, set from application properties when the context starts
+    private static volatile boolean implicitLookups = false;
+    private static volatile Duration implicitWait = Duration.ofSeconds(10);
+    private static volatile Duration readinessTimeout = Duration.ofSeconds(15);
+    private static volatile Duration networkIdle = Duration.ofMillis(500);
+    private static volatile String readinessSelector = "";
 
     private WebDriverFactory() {
         // Private constructor to prevent instantiation
     }
 
     /**
-     * Returns a singleton WebDriver instance, creating one if not initialized.
+     * "explicit" (default) creates drivers with no implicit wait and gates each
+     * page load on {@link PageReadiness}, so lookups that find nothing return
+     * immediately. "implicit" keeps the old 10 second implicit wait.
+     */
+    @Value("${webdriver.lookup-mode:explicit}")
+    void setLookupMode(String lookupMode) {
+        implicitLookups = "implicit".equalsIgnoreCase(lookupMode.trim());
+    }
+
+    @Value("${webdriver.implicit-wait-seconds:10}")
+    void setImplicitWaitSeconds(long seconds) {
+        implicitWait = Duration.ofSeconds(seconds);
+    }
+
+    @Value("${webdriver.readiness.timeout-seconds:15}")
+    void setReadinessTimeoutSeconds(long seconds) {
+        readinessTimeout = Duration.ofSeconds(seconds);
+    }
+
+    @Value("${webdriver.readiness.network-idle-ms:500}")
+    void setNetworkIdleMillis(long millis) {
+        networkIdle = Duration.ofMillis(millis);
+    }
+
+    @Value("${webdriver.readiness.selector:}")
+    void setReadinessSelector(String selector) {
+        readinessSelector = selector;
+    }
+
+    /**
+     * Blocks until a freshly loaded page is ready for rules to inspect. A no-op
+     * in implicit lookup mode, where each lookup does its own waiting.
+     */
+    public static void awaitPageReady(WebDriver driver) {
+        if (!implicitLookups) {
+            PageReadiness.await(driver, readinessTimeout, networkIdle, readinessSelector);
+        }
+    }
+
+    /**
+     * Binds a pooled session to the current thread so that {@link #getDriver()}
+     * resolves to it instead of the shared instance.
+     */
+    public static void bindSession(WebDriverSession session) {
+        if (session == null) {
+            SESSION.remove();
+        } else {
+            SESSION.set(session);
+        }
+    }
+
+    public static void unbindSession() {
+        SESSION.remove();
+    }
+
+    public static WebDriverSession currentSession() {
+        return SESSION.get();
+    }
+
+    /**
+     * Runs a task with the given session bound, restoring the previous binding
+     * afterwards. Used to carry the scan's session onto worker threads.
+     */
+    public static <T> T callWithSession(WebDriverSession session, Callable<T> task) throws Exception {
+        WebDriverSession previous = SESSION.get();
+        bindSession(session);
+        try {
+            return task.call();
+        } finally {
+            bindSession(previous);
+        }
+    }
+
+    /**
+     * Lets the bound session serve the browser's load of this URL from the
+     * page the scan already fetched. Skipped when the fetch was redirected,
+     * since the body then belongs to another URL.
+     */
+    public static void primePage(String url, FetchedPage page) {
+        WebDriverSession session = SESSION.get();
+        if (session != null && PageResultCache.normalize(url).equals(PageResultCache.normalize(page.getUrl()))) {
+            session.prime(url, page.getBody());
+        }
+    }
+
+    /**
+     * Returns the session bound to the current thread, or a singleton WebDriver
+     * instance, creating one if not initialized.
      */
     public static WebDriver getDriver() {
+        WebDriverSession session = SESSION.get();
+        if (session != null) {
+            return session.driver();
+        }
         if (driver == null) {
             synchronized (lock) {
                 if (driver == null) {
@@ -42,22 +145,54 @@ public class WebDriverFactory {
     }
 
     
+    /**
+     * Returns a driver positioned on the given URL. Within a bound session the
+     * page is loaded once and shared, so repeated calls do not reload it.
+     */
     public static WebDriver getDriver(String url) {
-		if (driver == null) {
-			synchronized (lock) {
-				if (driver == null) {
-					driver = createWebDriverWithRetries();
-				}
-			}
-		}
-		driver.get(url);
-		return driver;
-	}
+        WebDriverSession session = SESSION.get();
+        if (session != null) {
+            return session.page(url).driver();
+        }
+        WebDriver current = getDriver();
+        current.get(url);
+        awaitPageReady(current);
+        return current;
+    }
     
+    /**
+     * Returns the page as rendered by the browser, parsed into Jsoup. Within a
+     * bound session the snapshot is captured once per page load and shared.
+     */
+    public static RenderedDom getRenderedDom(String url) {
+        WebDriverSession session = SESSION.get();
+        if (session != null) {
+            return session.page(url).rendered();
+        }
+        return RenderedDom.capture(getDriver(url), url);
+    }
+
+    /**
+     * Returns the keyboard focus walk of the page, shared by every rule of the
+     * current scan when a session is bound.
+     */
+    public static FocusWalk getFocusWalk(String url) {
+        WebDriverSession session = SESSION.get();
+        if (session != null) {
+            try {
+                return session.page(url).focusWalk();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AccessibilityServiceException("Interrupted while walking focus on " + url, e);
+            }
+        }
+        return FocusWalk.capture(getDriver(url));
+    }
+
     /**
      * Attempts to create a WebDriver instance with retries on failure.
      */
-    private static WebDriver createWebDriverWithRetries() {
+    static WebDriver createWebDriverWithRetries() {
         int attempt = 0;
         while (attempt < MAX_RETRIES) {
             try {
@@ -123,7 +258,7 @@ public class WebDriverFactory {
             }
             
             // Configure timeouts
-            driverInstance.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+            driverInstance.manage().timeouts().implicitlyWait(implicitLookups ? implicitWait : Duration.ZERO);
             driverInstance.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
             driverInstance.manage().timeouts().scriptTimeout(Duration.ofSeconds(30));
             
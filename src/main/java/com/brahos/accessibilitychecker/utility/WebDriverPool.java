@@ -0,0 +1,234 @@
+package com.brahos.accessibilitychecker.utility;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.brahos.accessibilitychecker.exception.AccessibilityServiceException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bounded pool of headless browser sessions. Sessions are health-checked on
+ * borrow, reset on return, recycled after a configurable number of uses and
+ * evicted when idle for too long.
+ */
+@Component
+public class WebDriverPool {
+
+	private static final Logger logger = LoggerFactory.getLogger(WebDriverPool.class);
+
+	@Value("${webdriver.pool.max-size:4}")
+	private int maxSize;
+
+	@Value("${webdriver.pool.max-uses:50}")
+	private int maxUses;
+
+	@Value("${webdriver.pool.idle-timeout-seconds:300}")
+	private long idleTimeoutSeconds;
+
+	@Value("${webdriver.pool.borrow-timeout-seconds:120}")
+	private long borrowTimeoutSeconds;
+
+	/**
+	 * Serves each page load from the HTML the scan already fetched, with
+	 * static assets shared across pages, instead of downloading it again.
+	 */
+	@Value("${webdriver.prime.enabled:false}")
+	private boolean primeEnabled;
+
+	@Value("${webdriver.prime.asset-cache-bytes:67108864}")
+	private long assetCacheBytes;
+
+	private final BlockingDeque<PooledDriver> idle = new LinkedBlockingDeque<>();
+	private final Map<WebDriver, PooledDriver> borrowed = new ConcurrentHashMap<>();
+
+	private Semaphore permits;
+	private ScheduledExecutorService evictor;
+	private AssetCache assetCache;
+
+	@PostConstruct
+	public void init() {
+		permits = new Semaphore(maxSize, true);
+		assetCache = new AssetCache(assetCacheBytes);
+		evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "webdriver-pool-evictor");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long period = Math.max(1, idleTimeoutSeconds / 2);
+		evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.SECONDS);
+		logger.info("WebDriver pool initialized (maxSize={}, maxUses={}, idleTimeout={}s).", maxSize, maxUses,
+				idleTimeoutSeconds);
+	}
+
+	/**
+	 * Opens a lease that borrows a browser lazily, on first use.
+	 */
+	public WebDriverSession openSession() {
+		return new WebDriverSession(this);
+	}
+
+	/**
+	 * Intercepts the browser's requests for one page load when priming is
+	 * enabled.
+	 *
+	 * @param body The page as fetched by the scan, or null if there is none
+	 * @return The primer to close once the page is loaded, or null
+	 */
+	PagePrimer primer(WebDriver driver, String url, String body) {
+		return primeEnabled ? PagePrimer.install(driver, url, body, assetCache) : null;
+	}
+
+	/**
+	 * Borrows a healthy browser session, creating one if none is idle. Blocks
+	 * while the pool is exhausted, up to the configured borrow timeout.
+	 */
+	public WebDriver borrow() {
+		try {
+			if (!permits.tryAcquire(borrowTimeoutSeconds, TimeUnit.SECONDS)) {
+				throw new AccessibilityServiceException(
+						"No browser session available within " + borrowTimeoutSeconds + " seconds.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AccessibilityServiceException("Interrupted while waiting for a browser session.", e);
+		}
+
+		try {
+			PooledDriver pooled;
+			while ((pooled = idle.pollFirst()) != null) {
+				if (isHealthy(pooled.driver)) {
+					break;
+				}
+				logger.warn("Discarding unhealthy WebDriver session.");
+				destroy(pooled);
+			}
+			if (pooled == null) {
+				pooled = new PooledDriver(WebDriverFactory.createWebDriverWithRetries());
+			}
+			borrowed.put(pooled.driver, pooled);
+			return pooled.driver;
+		} catch (RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns a session to the pool. Sessions that reached their use limit or
+	 * cannot be reset are quit instead.
+	 */
+	public void release(WebDriver driver) {
+		PooledDriver pooled = borrowed.remove(driver);
+		if (pooled == null) {
+			return;
+		}
+		try {
+			pooled.uses++;
+			if (pooled.uses >= maxUses || !reset(pooled.driver)) {
+				destroy(pooled);
+			} else {
+				pooled.lastReturned = System.currentTimeMillis();
+				idle.offerFirst(pooled);
+			}
+		} finally {
+			permits.release();
+		}
+	}
+
+	/**
+	 * Quits a borrowed session that is known to be broken.
+	 */
+	public void invalidate(WebDriver driver) {
+		PooledDriver pooled = borrowed.remove(driver);
+		if (pooled != null) {
+			destroy(pooled);
+			permits.release();
+		}
+	}
+
+	void evictIdle() {
+		long cutoff = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(idleTimeoutSeconds);
+		Iterator<PooledDriver> iterator = idle.descendingIterator();
+		while (iterator.hasNext()) {
+			PooledDriver pooled = iterator.next();
+			if (pooled.lastReturned < cutoff && idle.remove(pooled)) {
+				logger.info("Evicting idle WebDriver session.");
+				destroy(pooled);
+			}
+		}
+	}
+
+	private boolean isHealthy(WebDriver driver) {
+		try {
+			driver.getWindowHandle();
+			return ((JavascriptExecutor) driver).executeScript("return 1;") != null;
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	private boolean reset(WebDriver driver) {
+		try {
+			String main = driver.getWindowHandles().iterator().next();
+			for (String handle : driver.getWindowHandles()) {
+				if (!handle.equals(main)) {
+					driver.switchTo().window(handle).close();
+				}
+			}
+			driver.switchTo().window(main);
+			driver.manage().deleteAllCookies();
+			driver.get("about:blank");
+			return true;
+		} catch (Exception e) {
+			logger.warn("Failed to reset WebDriver session: {}", e.getMessage());
+			return false;
+		}
+	}
+
+	private void destroy(PooledDriver pooled) {
+		try {
+			pooled.driver.quit();
+		} catch (Exception e) {
+			logger.error("Error while quitting WebDriver: {}", e.getMessage());
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		evictor.shutdownNow();
+		List<PooledDriver> all = new ArrayList<>(idle);
+		idle.clear();
+		all.addAll(borrowed.values());
+		borrowed.clear();
+		all.forEach(this::destroy);
+		logger.info("WebDriver pool shut down.");
+	}
+
+	private static final class PooledDriver {
+		private final WebDriver driver;
+		private int uses;
+		private long lastReturned = System.currentTimeMillis();
+
+		private PooledDriver(WebDriver driver) {
+			this.driver = driver;
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.brahos.accessibilitychecker.utility;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * A per-scan lease on a pooled browser. The browser is borrowed on first use
+ * and handed back to the pool on {@link #close()}.
+ */
+public class WebDriverSession implements AutoCloseable {
+
+	private final WebDriverPool pool;
+	private WebDriver driver;
+	private PageSession page;
+	private String primedUrl;
+	private String primedBody;
+	private boolean closed;
+
+	WebDriverSession(WebDriverPool pool) {
+		this.pool = pool;
+	}
+
+	public synchronized WebDriver driver() {
+		if (closed) {
+			throw new IllegalStateException("WebDriver session already returned to the pool.");
+		}
+		if (driver == null) {
+			driver = pool.borrow();
+		}
+		return driver;
+	}
+
+	/**
+	 * Returns the shared page session for the given URL, replacing the current
+	 * one when the scan moves on to another page.
+	 */
+	public synchronized PageSession page(String url) {
+		if (page == null || !page.getUrl().equals(url)) {
+			page = new PageSession(this, url);
+		}
+		return page;
+	}
+
+	/**
+	 * Hands the session the page as the scan fetched it, so loading that URL
+	 * in the browser can be served from it.
+	 */
+	public synchronized void prime(String url, String body) {
+		primedUrl = url;
+		primedBody = body;
+	}
+
+	synchronized PagePrimer primer(WebDriver driver, String url) {
+		return pool.primer(driver, url, url.equals(primedUrl) ? primedBody : null);
+	}
+
+	public synchronized boolean isStarted() {
+		return driver != null;
+	}
+
+	@Override
+	public synchronized void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		page = null;
+		primedBody = null;
+		if (driver != null) {
+			pool.release(driver);
+			driver = null;
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package com.brahos.accessibilitychecker.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.brahos.accessibilitychecker.model.GuidelineData;
+import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.brahos.accessibilitychecker.model.IssueDetails;
+import com.brahos.accessibilitychecker.model.ScanResultPage;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+/**
+ * Keyset paging of a scan's results on a real server: every page of the scan
+ * is returned once, in insertion order, with the fields of the chosen view.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class AccessibilityScanResponseServiceImplTest {
+
+	@Container
+	private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+	private static MongoClient client;
+	private static MongoTemplate mongoTemplate;
+
+	private AccessibilityScanResponseServiceImpl service;
+
+	@BeforeAll
+	static void connect() {
+		client = MongoClients.create(MONGO.getConnectionString());
+		mongoTemplate = new MongoTemplate(client, "wcag");
+	}
+
+	@AfterAll
+	static void disconnect() {
+		client.close();
+	}
+
+	@BeforeEach
+	void setUp() {
+		mongoTemplate.dropCollection(GuidelineResponse.class);
+		for (int i = 0; i < 7; i++) {
+			mongoTemplate.insert(result("scan-a", "https://example.com/" + i));
+			if (i % 2 == 0) {
+				mongoTemplate.insert(result("scan-b", "https://example.org/" + i));
+			}
+		}
+
+		service = new AccessibilityScanResponseServiceImpl();
+		service.scanResponseRepository = new MongoRepositoryFactory(mongoTemplate)
+				.getRepository(AccessibilityCheckerScanResponseRepository.class);
+		ReflectionTestUtils.setField(service, "defaultPageSize", 3);
+		ReflectionTestUtils.setField(service, "maxPageSize", 5);
+	}
+
+	@Test
+	void walksEveryPageOfTheScanOnceInInsertionOrder() {
+		List<String> pageUrls = new ArrayList<>();
+		List<ScanResultPage> slices = walk("scan-a", ScanResultPage.View.SUMMARY, null);
+		slices.forEach(slice -> slice.getResults().forEach(result -> pageUrls.add(result.getPageUrl())));
+
+		assertEquals(List.of("https://example.com/0", "https://example.com/1", "https://example.com/2",
+				"https://example.com/3", "https://example.com/4", "https://example.com/5", "https://example.com/6"),
+				pageUrls);
+		assertEquals(List.of(3, 3, 1), slices.stream().map(slice -> slice.getResults().size()).toList());
+		assertFalse(slices.get(slices.size() - 1).isHasNext());
+		assertNull(slices.get(slices.size() - 1).getNextCursor());
+	}
+
+	@Test
+	void capsTheRequestedSize() {
+		ScanResultPage slice = service.getPageByScanId("scan-a", ScanResultPage.View.SUMMARY, null, 100);
+		assertEquals(5, slice.getSize());
+		assertEquals(5, slice.getResults().size());
+		assertTrue(slice.isHasNext());
+	}
+
+	@Test
+	void projectsTheFieldsOfEachView() {
+		GuidelineResponse summary = first(ScanResultPage.View.SUMMARY);
+		assertTrue(summary.getData().isEmpty());
+		assertEquals(2, summary.getTotalIssueCount().intValue());
+
+		GuidelineResponse guidelines = first(ScanResultPage.View.GUIDELINES);
+		assertEquals(1, guidelines.getData().size());
+		assertEquals(2, guidelines.getData().get(0).getIssueCount().intValue());
+		assertNull(guidelines.getData().get(0).getIssueDetails());
+
+		GuidelineResponse full = first(ScanResultPage.View.FULL);
+		assertEquals(2, full.getData().get(0).getIssueDetails().size());
+	}
+
+	@Test
+	void findsOnePageOfTheScanWithTheFieldsOfEachView() {
+		GuidelineResponse summary = service
+				.getPageResult("scan-b", "https://example.org/4", ScanResultPage.View.SUMMARY).orElse(null);
+		assertNotNull(summary);
+		assertEquals("https://example.org/4", summary.getPageUrl());
+		assertTrue(summary.getData().isEmpty());
+
+		GuidelineResponse guidelines = service
+				.getPageResult("scan-b", "https://example.org/4", ScanResultPage.View.GUIDELINES).orElseThrow();
+		assertEquals(2, guidelines.getData().get(0).getIssueCount().intValue());
+		assertNull(guidelines.getData().get(0).getIssueDetails());
+
+		GuidelineResponse full = service.getPageResult("scan-b", "https://example.org/4", ScanResultPage.View.FULL)
+				.orElseThrow();
+		assertEquals(2, full.getData().get(0).getIssueDetails().size());
+
+		assertTrue(service.getPageResult("scan-a", "https://example.org/4", ScanResultPage.View.FULL).isEmpty());
+	}
+
+	@Test
+	void rejectsACursorThatIsNotAnId() {
+		assertThrows(IllegalArgumentException.class,
+				() -> service.getPageByScanId("scan-a", ScanResultPage.View.SUMMARY, "not-an-id", null));
+	}
+
+	private List<ScanResultPage> walk(String scanId, ScanResultPage.View view, Integer size) {
+		List<ScanResultPage> slices = new ArrayList<>();
+		String cursor = null;
+		do {
+			ScanResultPage slice = service.getPageByScanId(scanId, view, cursor, size);
+			slices.add(slice);
+			cursor = slice.getNextCursor();
+		} while (cursor != null);
+		return slices;
+	}
+
+	private GuidelineResponse first(ScanResultPage.View view) {
+		return service.getPageByScanId("scan-a", view, null, 1).getResults().get(0);
+	}
+
+	private static GuidelineResponse result(String scanId, String pageUrl) {
+		ArrayList<IssueDetails> issues = new ArrayList<>(
+				List.of(IssueDetails.builder().build(), IssueDetails.builder().build()));
+		GuidelineData guideline = GuidelineData.builder().guideline("1.1.1").issueCount(2).successCount(0)
+				.issueDetails(issues).build();
+		return GuidelineResponse.builder().scanId(scanId).pageUrl(pageUrl).totalIssueCount(2)
+				.data(new ArrayList<>(List.of(guideline))).build();
+	}
+}
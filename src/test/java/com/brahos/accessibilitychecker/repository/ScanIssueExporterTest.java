@@ -0,0 +1,37 @@
+package com.brahos.accessibilitychecker.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * CSV cells of the issue export: page content that a spreadsheet would run as
+ * a formula is neutralised, and cells are quoted as RFC 4180 requires.
+ */
+class ScanIssueExporterTest {
+
+	@Test
+	void leavesPlainValuesAlone() {
+		assertEquals("img", ScanIssueExporter.csvField("img"));
+		assertEquals("", ScanIssueExporter.csvField(""));
+		assertEquals("a=b", ScanIssueExporter.csvField("a=b"));
+	}
+
+	@Test
+	void prefixesFormulaLikeValues() {
+		assertEquals("\"'=HYPERLINK(\"\"http://x\"\")\"", ScanIssueExporter.csvField("=HYPERLINK(\"http://x\")"));
+		assertEquals("'+1", ScanIssueExporter.csvField("+1"));
+		assertEquals("'-2+3", ScanIssueExporter.csvField("-2+3"));
+		assertEquals("'@SUM(A1)", ScanIssueExporter.csvField("@SUM(A1)"));
+		assertEquals("'\tcmd", ScanIssueExporter.csvField("\tcmd"));
+		assertEquals("\"'\rcmd\"", ScanIssueExporter.csvField("\rcmd"));
+	}
+
+	@Test
+	void quotesSeparatorsQuotesAndLineBreaks() {
+		assertEquals("\"a,b\"", ScanIssueExporter.csvField("a,b"));
+		assertEquals("\"<a title=\"\"x\"\">\"", ScanIssueExporter.csvField("<a title=\"x\">"));
+		assertEquals("\"a\nb\"", ScanIssueExporter.csvField("a\nb"));
+		assertEquals("\"'=1,2\"", ScanIssueExporter.csvField("=1,2"));
+	}
+}
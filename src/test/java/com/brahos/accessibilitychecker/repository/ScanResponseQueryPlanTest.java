@@ -0,0 +1,164 @@
+package com.brahos.accessibilitychecker.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+/**
+ * Every query scan_responses serves is explained on a real server with the
+ * filter, sort and projection the application actually sends, and fails the
+ * build when it is planned as a collection scan or an in-memory sort. The
+ * queries are captured from the driver while each declared repository method
+ * and the issue export run, so a new repository method is covered without
+ * updating a list.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ScanResponseQueryPlanTest {
+
+	@Container
+	private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+	/** A valid ObjectId hex string, so id parameters convert as they do in production. */
+	private static final String ARGUMENT = "000000000000000000000000";
+
+	/** Session and routing fields of a sent command that explain does not take. */
+	private static final List<String> SESSION_FIELDS = List.of("$db", "lsid", "$clusterTime", "$readPreference",
+			"txnNumber", "autocommit", "startTransaction");
+
+	private static final List<BsonDocument> sent = new ArrayList<>();
+
+	private static MongoClient client;
+	private static MongoTemplate mongoTemplate;
+
+	@BeforeAll
+	static void setUp() {
+		CommandListener capture = new CommandListener() {
+			@Override
+			public void commandStarted(CommandStartedEvent event) {
+				if (event.getCommandName().equals("find")) {
+					synchronized (sent) {
+						sent.add(event.getCommand().clone());
+					}
+				}
+			}
+		};
+		client = MongoClients.create(MongoClientSettings.builder()
+				.applyConnectionString(new ConnectionString(MONGO.getConnectionString())).addCommandListener(capture)
+				.build());
+		mongoTemplate = new MongoTemplate(client, "wcag");
+
+		for (int i = 0; i < 20; i++) {
+			mongoTemplate.insert(GuidelineResponse.builder().scanId("scan-" + (i % 4)).jobId("job-" + (i % 2))
+					.pageUrl("https://example.com/" + i).scanedTime("2024-05-01T12:00:" + (10 + i)).build());
+		}
+
+		// The startup check itself must pass with fail-on-error on
+		ScanResponseIndexes indexes = new ScanResponseIndexes(mongoTemplate, new MongoMappingContext());
+		ReflectionTestUtils.setField(indexes, "verify", true);
+		ReflectionTestUtils.setField(indexes, "failOnError", true);
+		indexes.ensureIndexes();
+	}
+
+	@AfterAll
+	static void tearDown() {
+		client.close();
+	}
+
+	@Test
+	void repositoryQueriesAreIndexBacked() throws Exception {
+		AccessibilityCheckerScanResponseRepository repository = new MongoRepositoryFactory(mongoTemplate)
+				.getRepository(AccessibilityCheckerScanResponseRepository.class);
+		List<String> problems = new ArrayList<>();
+		for (Method method : AccessibilityCheckerScanResponseRepository.class.getDeclaredMethods()) {
+			List<BsonDocument> queries = capture(() -> method.invoke(repository, arguments(method)));
+			assertTrue(!queries.isEmpty(), method.getName() + " sent no find command");
+			queries.forEach(query -> check(method.getName(), query, problems));
+		}
+		assertTrue(problems.isEmpty(), String.join("\n", problems));
+	}
+
+	@Test
+	void issueExportIsIndexBacked() throws Exception {
+		ScanIssueExporter exporter = new ScanIssueExporter(mongoTemplate, new ObjectMapper());
+		ReflectionTestUtils.setField(exporter, "cursorBatchSize", 5);
+		List<String> problems = new ArrayList<>();
+		List<BsonDocument> queries = capture(
+				() -> exporter.export("scan-1", ScanIssueExporter.Format.CSV, OutputStream.nullOutputStream()));
+		assertTrue(!queries.isEmpty(), "export sent no find command");
+		queries.forEach(query -> check("ScanIssueExporter.export", query, problems));
+		assertTrue(problems.isEmpty(), String.join("\n", problems));
+	}
+
+	private static Object[] arguments(Method method) {
+		Class<?>[] types = method.getParameterTypes();
+		Object[] arguments = new Object[types.length];
+		for (int i = 0; i < types.length; i++) {
+			if (types[i] == String.class) {
+				arguments[i] = ARGUMENT;
+			} else if (types[i] == Pageable.class) {
+				// Keyset pages are sorted by id; see AccessibilityScanResponseServiceImpl
+				arguments[i] = PageRequest.of(0, 10, Sort.by("id"));
+			} else {
+				fail("No test argument for " + types[i].getSimpleName() + " of " + method.getName());
+			}
+		}
+		return arguments;
+	}
+
+	private static void check(String name, BsonDocument find, List<String> problems) {
+		BsonDocument command = find.clone();
+		SESSION_FIELDS.forEach(command::remove);
+		Document explain = mongoTemplate.getDb()
+				.runCommand(new BsonDocument("explain", command).append("verbosity", new BsonString("queryPlanner")));
+		Document plan = ScanResponseIndexes.winningPlan(explain);
+		List<String> stages = ScanResponseIndexes.unindexedStages(plan);
+		if (!stages.isEmpty()) {
+			problems.add(name + " " + command.toJson() + " is planned with " + stages + ": " + plan.toJson());
+		}
+	}
+
+	private static List<BsonDocument> capture(Invocation invocation) throws Exception {
+		synchronized (sent) {
+			sent.clear();
+		}
+		invocation.run();
+		synchronized (sent) {
+			return new ArrayList<>(sent);
+		}
+	}
+
+	@FunctionalInterface
+	private interface Invocation {
+		void run() throws Exception;
+	}
+}
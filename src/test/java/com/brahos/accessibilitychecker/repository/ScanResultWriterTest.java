@@ -0,0 +1,51 @@
+package com.brahos.accessibilitychecker.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.brahos.accessibilitychecker.model.GuidelineResponse;
+
+/**
+ * Results carry the id they are stored under as soon as they are queued, so
+ * a caller returning them before the batch is written returns that id.
+ */
+class ScanResultWriterTest {
+
+	private final BlockingQueue<GuidelineResponse> queue = new LinkedBlockingQueue<>();
+	private ScanResultWriter writer;
+
+	@BeforeEach
+	void setUp() {
+		writer = new ScanResultWriter(null);
+		ReflectionTestUtils.setField(writer, "batchSize", 100);
+		ReflectionTestUtils.setField(writer, "flushIntervalMillis", 1000L);
+		ReflectionTestUtils.setField(writer, "queue", queue);
+	}
+
+	@Test
+	void assignsTheIdOnTheCallersThread() {
+		GuidelineResponse response = GuidelineResponse.builder().pageUrl("https://example.com/").build();
+		writer.enqueue(response);
+
+		assertTrue(ObjectId.isValid(response.getId()), String.valueOf(response.getId()));
+		assertSame(response, queue.peek());
+	}
+
+	@Test
+	void keepsAnIdTheResultAlreadyHas() {
+		String id = new ObjectId().toHexString();
+		GuidelineResponse response = GuidelineResponse.builder().id(id).build();
+		writer.enqueue(response);
+
+		assertEquals(id, response.getId());
+	}
+}
@@ -0,0 +1,98 @@
+package com.brahos.accessibilitychecker.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.brahos.accessibilitychecker.model.GuidelineHandler;
+import com.brahos.accessibilitychecker.model.GuidelineHandler.Cost;
+import com.brahos.accessibilitychecker.model.GuidelineHandler.Dependency;
+import com.brahos.accessibilitychecker.service.WcagAccessibilityGuidelines_2_0_AA;
+import com.brahos.accessibilitychecker.service.WcagAccessibilityGuidelines_2_0_AAA;
+
+/**
+ * Criteria selection: matching by number or title, level and scan-mode
+ * limits, and the errors a caller sees for criteria that cannot run.
+ */
+class GuidelineHandlerRegistryTest {
+
+	private GuidelineHandlerRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		registry = new GuidelineHandlerRegistry(mock(AccessibilityGuidelinesServiceImpl_2_0_A.class),
+				mock(WcagAccessibilityGuidelines_2_0_AA.class), mock(WcagAccessibilityGuidelines_2_0_AAA.class));
+	}
+
+	@Test
+	void selectsByCriterionNumber() {
+		assertEquals(List.of("evaluateTextContrast"), names(registry.select("AA", List.of("1.4.3"))));
+	}
+
+	@Test
+	void selectsByGuidelineTitleIgnoringCaseAndSpaces() {
+		assertEquals(List.of("evaluateTextContrast"),
+				names(registry.select("AA", List.of("  1.4.3 contrast (MINIMUM) "))));
+		assertEquals(List.of("Non-text content"), names(registry.select("A", List.of("1.1.1 Non-text Content"))));
+	}
+
+	@Test
+	void keepsRegistrationOrderAcrossLevels() {
+		assertEquals(List.of("Non-text content", "evaluateTextContrast"),
+				names(registry.select("AAA", List.of("1.4.3", "1.1.1", "1.4.3"))));
+	}
+
+	@Test
+	void picksTheBrowserRuleOrItsDomVariantByScanMode() {
+		assertEquals(List.of("evaluatePageTitle"), names(registry.select("A", List.of("2.4.2"), false)));
+		assertEquals(List.of("evaluatePageTitle (DOM)"), names(registry.select("A", List.of("2.4.2"), true)));
+	}
+
+	@Test
+	void rejectsCriteriaAboveTheLevel() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> registry.select("A", List.of("1.1.1", "1.4.3", "9.9.9")));
+		assertEquals("Unknown WCAG criteria for level A: [1.4.3, 9.9.9]", e.getMessage());
+	}
+
+	@Test
+	void rejectsBrowserOnlyCriteriaInAStaticScan() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> registry.select("AA", List.of("1.1.1", "1.4.3"), true));
+		assertEquals("WCAG criteria need a browser and cannot run in a static scan: [1.4.3]", e.getMessage());
+	}
+
+	@Test
+	void reportsUnknownAndBrowserOnlyCriteriaInAStaticScanSeparately() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> registry.select("AA", List.of("1.4.3", "9.9.9"), true));
+		assertEquals("Unknown WCAG criteria for level AA: [9.9.9]; "
+				+ "WCAG criteria need a browser and cannot run in a static scan: [1.4.3]", e.getMessage());
+	}
+
+	@Test
+	void reportsOnlyUnknownCriteriaInAStaticScanAsUnknown() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> registry.select("AA", List.of("1.1.1", "9.9.9"), true));
+		assertEquals("Unknown WCAG criteria for level AA: [9.9.9]", e.getMessage());
+	}
+
+	@Test
+	void focusWalkRulesAreScheduledAsPageInteractions() {
+		for (GuidelineHandler handler : registry.getAll()) {
+			assertEquals(handler.dependsOn(Dependency.FOCUS_WALK), handler.getCost() == Cost.PAGE_INTERACTION,
+					handler.getName());
+		}
+		assertTrue(registry.getAll().stream().anyMatch(handler -> handler.getCost() == Cost.PAGE_INTERACTION));
+	}
+
+	private static List<String> names(List<GuidelineHandler> handlers) {
+		return handlers.stream().map(GuidelineHandler::getName).toList();
+	}
+}
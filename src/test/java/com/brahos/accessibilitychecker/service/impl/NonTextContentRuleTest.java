@@ -0,0 +1,164 @@
+package com.brahos.accessibilitychecker.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.brahos.accessibilitychecker.helper.service.impl.IGuidelineDataTransformerImpl;
+import com.brahos.accessibilitychecker.model.GuidelineData;
+import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.brahos.accessibilitychecker.model.IssueDetails;
+import com.brahos.accessibilitychecker.model.IssueFixDetails;
+import com.brahos.accessibilitychecker.model.WcagFixesData;
+import com.brahos.accessibilitychecker.repository.AccessibilityIssueFixesRepository;
+import com.brahos.accessibilitychecker.utility.DomIndex;
+import com.brahos.accessibilitychecker.utility.DomInterest;
+import com.brahos.accessibilitychecker.utility.StaticRuleEngine;
+
+/**
+ * 1.1.1 Non-text Content on a fixture page gives the same issues whether the
+ * page is open in the rule engine (one shared index per scan) or the rule runs
+ * on its own, and the index's lookups return what {@code Document.select}
+ * does.
+ */
+class NonTextContentRuleTest {
+
+	private static final String FIXTURE = """
+			<html lang="en"><head><title>Fixture</title></head><body>
+			<img src="logo.png">
+			<img src="hero.png" alt="">
+			<img src="a.png" alt="image">
+			<img src="b.png" alt="image">
+			<img src="c.png" alt="ok">
+			<img src="d.png" alt="Company logo">
+			<video src="v.mp4"></video>
+			<video src="w.mp4"><track kind="captions" src="w.vtt"></video>
+			<audio src="a.mp3"></audio>
+			<input type="hidden" name="token">
+			<input type="text" name="q">
+			<input type="text" name="s" aria-label="Search">
+			</body></html>
+			""";
+
+	/** Roles, nesting and mixed case, which the rule fixture does not exercise. */
+	private static final String INDEX_FIXTURE = """
+			<html><body>
+			<DIV role=" Button "><IMG src="x.png" ALT="x"><span role="img" aria-label="star"></span></DIV>
+			<figure><picture><source srcset="p.webp"><img src="p.png" alt="p"></picture></figure>
+			<a href="#" role="link">link</a><div role="checkbox" aria-checked="false"></div>
+			<form><label for="n">Name</label><input id="n"><textarea></textarea><select></select>
+			<button>Go</button></form><svg role="img"><title>chart</title></svg>
+			</body></html>
+			""";
+
+	private static final List<String> EXPECTED_ISSUES = List.of("Missing alt attribute", "Empty alt text",
+			"Placeholder alt text", "Duplicate alt text", "Placeholder alt text", "Insufficient alt text",
+			"Missing captions/subtitles", "Missing captions/transcripts", "Missing label for input field");
+
+	private StaticRuleEngine staticRuleEngine;
+	private AccessibilityGuidelinesServiceImpl_2_0_A rules;
+
+	@BeforeEach
+	void setUp() {
+		WcagFixesData fixesData = new WcagFixesData();
+		fixesData.setData(Map.of("Missing Alt Attribute",
+				IssueFixDetails.builder().title("Missing Alt Attribute").fix("Add an alt attribute.").build()));
+		AccessibilityIssueFixesRepository fixesRepository = mock(AccessibilityIssueFixesRepository.class);
+		when(fixesRepository.findByWcagVersionAndLevel("2.0", "A")).thenReturn(Optional.of(fixesData));
+
+		IGuidelineDataTransformerImpl transformer = new IGuidelineDataTransformerImpl();
+		staticRuleEngine = new StaticRuleEngine();
+		rules = new AccessibilityGuidelinesServiceImpl_2_0_A(new HelperGuidelinesExecutorServiceImpl(),
+				new GuidelineResponseBuilderServiceImpl(transformer), transformer, null);
+		ReflectionTestUtils.setField(rules, "issueFixesRepository", fixesRepository);
+		ReflectionTestUtils.setField(rules, "staticRuleEngine", staticRuleEngine);
+		rules.init();
+	}
+
+	@Test
+	void reportsTheFixtureIssuesOutsideAScan() {
+		GuidelineData data = evaluate(Jsoup.parse(FIXTURE));
+
+		assertEquals(EXPECTED_ISSUES, titles(data));
+		assertEquals(EXPECTED_ISSUES.size(), (int) data.getIssueCount());
+	}
+
+	@Test
+	void sharedIndexGivesTheSameResultAsAOneOffIndex() {
+		GuidelineData alone = evaluate(Jsoup.parse(FIXTURE));
+
+		Document document = Jsoup.parse(FIXTURE);
+		staticRuleEngine.open(document);
+		GuidelineData shared;
+		try {
+			shared = evaluate(document);
+		} finally {
+			staticRuleEngine.close(document);
+		}
+
+		assertEquals(titles(alone), titles(shared));
+		assertEquals(selectors(alone), selectors(shared));
+		assertEquals(alone.getIssueCount(), shared.getIssueCount());
+		assertEquals(alone.getSuccessCount(), shared.getSuccessCount());
+	}
+
+	@Test
+	void indexedLookupsMatchDocumentSelect() {
+		for (String html : List.of(FIXTURE, INDEX_FIXTURE)) {
+			Document document = Jsoup.parse(html);
+			staticRuleEngine.open(document);
+			try {
+				DomIndex dom = staticRuleEngine.index(document);
+				for (DomInterest interest : staticRuleEngine.getInterests()) {
+					List<String> selectors = new ArrayList<>();
+					for (String tag : interest.getTags()) {
+						assertEquals(document.select(tag), dom.select(tag), tag);
+						selectors.add(tag);
+					}
+					for (String attribute : interest.getAttributes()) {
+						assertEquals(document.select("[" + attribute + "]"), dom.withAttribute(attribute), attribute);
+					}
+					for (String role : interest.getRoles()) {
+						assertEquals(document.select("[role=" + role + "]").size(),
+								dom.count(List.of(), List.of(role)), role);
+						selectors.add("[role=" + role + "]");
+					}
+					if (!selectors.isEmpty()) {
+						assertEquals(document.select(String.join(", ", selectors)).size(), dom.count(interest),
+								interest.getRule());
+					}
+				}
+				assertTrue(dom.checkedElements() > 0);
+				assertEquals(dom.count(StaticRuleEngine.CHECKED_ELEMENTS), dom.checkedElements());
+			} finally {
+				staticRuleEngine.close(document);
+			}
+		}
+	}
+
+	private GuidelineData evaluate(Document document) {
+		GuidelineResponse response = rules.evaluateNonTextContent(document);
+		assertEquals(1, response.getData().size());
+		return response.getData().get(0);
+	}
+
+	private static List<String> titles(GuidelineData data) {
+		return data.getIssueDetails().stream().map(IssueDetails::getTitle).toList();
+	}
+
+	private static List<String> selectors(GuidelineData data) {
+		return data.getIssueDetails().stream().map(IssueDetails::getSelector).toList();
+	}
+}
@@ -0,0 +1,170 @@
+package com.brahos.accessibilitychecker.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+/**
+ * Freshness of shared browser assets: how long a response is served from
+ * the cache, and when it is revalidated or fetched again.
+ */
+class AssetCacheTest {
+
+	private static final String CSS = "https://example.com/site.css";
+
+	private final AtomicLong now = new AtomicLong(Instant.parse("2024-05-01T12:00:00Z").toEpochMilli());
+	private final List<HttpRequest> sent = new ArrayList<>();
+	private AssetCache cache;
+	private HttpResponse next;
+
+	@BeforeEach
+	void setUp() {
+		cache = new AssetCache(1 << 20, now::get);
+	}
+
+	@Test
+	void servesAFreshAssetUntilItsMaxAgeRunsOut() {
+		next = css("body{}").setHeader("Cache-Control", "public, max-age=60");
+		assertEquals("body{}", body(fetch()));
+		assertEquals("body{}", body(fetch()));
+		assertEquals(1, sent.size());
+
+		advanceSeconds(61);
+		next = css("body{color:red}").setHeader("Cache-Control", "max-age=60");
+		assertEquals("body{color:red}", body(fetch()));
+		assertEquals(2, sent.size());
+	}
+
+	@Test
+	void honoursExpiresRelativeToTheServerDate() {
+		next = css("a{}").setHeader("Date", http(0)).setHeader("Expires", http(30));
+		fetch();
+		advanceSeconds(20);
+		fetch();
+		assertEquals(1, sent.size());
+		advanceSeconds(20);
+		fetch();
+		assertEquals(2, sent.size());
+	}
+
+	@Test
+	void revalidatesAStaleAssetWithItsEtag() {
+		next = css("a{}").setHeader("Cache-Control", "max-age=10").setHeader("ETag", "\"v1\"");
+		fetch();
+		advanceSeconds(11);
+
+		next = new HttpResponse().setStatus(304).setHeader("Cache-Control", "max-age=10");
+		HttpResponse revalidated = fetch();
+		assertEquals(200, revalidated.getStatus());
+		assertEquals("a{}", body(revalidated));
+		assertEquals("\"v1\"", sent.get(1).getHeader("If-None-Match"));
+
+		fetch();
+		assertEquals(2, sent.size());
+	}
+
+	@Test
+	void revalidatesNoCacheAssetsOnEveryUse() {
+		next = css("a{}").setHeader("Cache-Control", "no-cache").setHeader("Last-Modified", http(-3600));
+		fetch();
+		next = new HttpResponse().setStatus(304);
+		assertEquals("a{}", body(fetch()));
+		assertEquals("a{}", body(fetch()));
+		assertEquals(3, sent.size());
+		assertEquals(http(-3600), sent.get(2).getHeader("If-Modified-Since"));
+	}
+
+	@Test
+	void neverKeepsNoStorePrivateOrUnvalidatedStaleAssets() {
+		for (String cacheControl : List.of("no-store", "private, max-age=600", "max-age=0")) {
+			sent.clear();
+			next = css("a{}").setHeader("Cache-Control", cacheControl);
+			fetch();
+			fetch();
+			assertEquals(2, sent.size(), cacheControl);
+		}
+	}
+
+	@Test
+	void servesVariedAssetsOnlyToMatchingRequests() {
+		next = css("a{}").setHeader("Cache-Control", "max-age=600").setHeader("Vary", "Accept-Language");
+		fetch("en");
+		fetch("en");
+		assertEquals(1, sent.size());
+		fetch("de");
+		assertEquals(2, sent.size());
+
+		sent.clear();
+		cache = new AssetCache(1 << 20, now::get);
+		next = css("a{}").setHeader("Cache-Control", "max-age=600").setHeader("Vary", "*");
+		fetch("en");
+		fetch("en");
+		assertEquals(2, sent.size());
+	}
+
+	@Test
+	void givesAssetsWithOnlyLastModifiedAHeuristicLifetime() {
+		next = css("a{}").setHeader("Date", http(0)).setHeader("Last-Modified", http(-1000));
+		fetch();
+		advanceSeconds(90);
+		fetch();
+		assertEquals(1, sent.size());
+		advanceSeconds(20);
+		next = new HttpResponse().setStatus(304);
+		fetch();
+		assertEquals(2, sent.size());
+		assertNull(sent.get(1).getHeader("If-None-Match"));
+	}
+
+	private HttpResponse fetch() {
+		return fetch(null);
+	}
+
+	private HttpResponse fetch(String language) {
+		HttpRequest request = new HttpRequest(HttpMethod.GET, CSS);
+		if (language != null) {
+			request.setHeader("Accept-Language", language);
+		}
+		HttpHandler origin = req -> {
+			sent.add(req);
+			HttpResponse response = new HttpResponse().setStatus(next.getStatus());
+			next.forEachHeader(response::addHeader);
+			response.setContent(Contents.bytes(Contents.bytes(next.getContent())));
+			return response;
+		};
+		return cache.fetch(request, origin);
+	}
+
+	private static HttpResponse css(String body) {
+		return new HttpResponse().setStatus(200).setHeader("Content-Type", "text/css")
+				.setContent(Contents.utf8String(body));
+	}
+
+	private static String body(HttpResponse response) {
+		return Contents.string(response);
+	}
+
+	private void advanceSeconds(long seconds) {
+		now.addAndGet(TimeUnit.SECONDS.toMillis(seconds));
+	}
+
+	private String http(long offsetSeconds) {
+		return DateTimeFormatter.RFC_1123_DATE_TIME
+				.format(Instant.ofEpochMilli(now.get()).plusSeconds(offsetSeconds).atOffset(ZoneOffset.UTC));
+	}
+}
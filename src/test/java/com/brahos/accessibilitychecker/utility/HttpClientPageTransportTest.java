@@ -0,0 +1,120 @@
+package com.brahos.accessibilitychecker.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * The transport against a local server: the timeout bounds the whole
+ * exchange including a trickled body, oversized bodies fail without retries,
+ * and hosts are forgotten once their requests finish.
+ */
+class HttpClientPageTransportTest {
+
+	private HttpServer server;
+	private HttpClientPageTransport transport;
+	private final AtomicInteger requests = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/page", exchange -> {
+			requests.incrementAndGet();
+			byte[] body = "<html><body>ok</body></html>".getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		server.createContext("/slow", exchange -> {
+			requests.incrementAndGet();
+			exchange.sendResponseHeaders(200, 0);
+			try (OutputStream out = exchange.getResponseBody()) {
+				for (int i = 0; i < 50; i++) {
+					out.write('x');
+					out.flush();
+					Thread.sleep(100);
+				}
+			} catch (InterruptedException | IOException e) {
+				// client gave up
+			}
+		});
+		server.createContext("/large", exchange -> {
+			requests.incrementAndGet();
+			exchange.sendResponseHeaders(200, 4096);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(new byte[4096]);
+			} catch (IOException e) {
+				// client gave up
+			}
+		});
+		server.start();
+
+		transport = new HttpClientPageTransport();
+		ReflectionTestUtils.setField(transport, "connectTimeoutMillis", 1000L);
+		ReflectionTestUtils.setField(transport, "maxConnectionsPerHost", 2);
+		ReflectionTestUtils.setField(transport, "maxBodyBytes", 1024);
+		ReflectionTestUtils.setField(transport, "retries", 1);
+		ReflectionTestUtils.setField(transport, "retryDelayMillis", 10L);
+		transport.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		transport.shutdown();
+		server.stop(0);
+	}
+
+	@Test
+	void fetchesAPage() throws IOException {
+		PageTransport.Response response = transport.get(uri("/page"), Map.of(), Duration.ofSeconds(2));
+		assertEquals(200, response.getStatus());
+		assertEquals("<html><body>ok</body></html>", response.getBody());
+		assertEquals("text/html; charset=utf-8", response.header("Content-Type"));
+	}
+
+	@Test
+	void timesOutWhileTheBodyIsStillTrickling() {
+		long started = System.nanoTime();
+		assertThrows(HttpTimeoutException.class, () -> transport.get(uri("/slow"), Map.of(), Duration.ofMillis(300)));
+		long elapsedMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+		assertTrue(elapsedMillis < 2000, "took " + elapsedMillis + " ms");
+	}
+
+	@Test
+	void rejectsBodiesOverTheBudgetWithoutRetrying() {
+		IOException e = assertThrows(IOException.class,
+				() -> transport.get(uri("/large"), Map.of(), Duration.ofSeconds(2)));
+		assertTrue(e.getMessage().contains("exceeds the fetch budget of 1024 bytes"), e.getMessage());
+		assertEquals(1, requests.get());
+	}
+
+	@Test
+	void forgetsHostsOnceTheirRequestsFinish() throws IOException {
+		transport.get(uri("/page"), Map.of(), Duration.ofSeconds(2));
+		assertThrows(IOException.class, () -> transport.get(uri("/large"), Map.of(), Duration.ofSeconds(2)));
+		assertEquals(0, ((Map<?, ?>) ReflectionTestUtils.getField(transport, "hosts")).size());
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path);
+	}
+}
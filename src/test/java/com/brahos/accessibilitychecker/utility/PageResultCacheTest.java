@@ -0,0 +1,118 @@
+package com.brahos.accessibilitychecker.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.brahos.accessibilitychecker.model.ScanOptions;
+import com.brahos.accessibilitychecker.repository.StoredPageRepository;
+import com.brahos.accessibilitychecker.service.WcagAccessibilityGuidelines_2_0_AA;
+import com.brahos.accessibilitychecker.service.WcagAccessibilityGuidelines_2_0_AAA;
+import com.brahos.accessibilitychecker.service.impl.AccessibilityGuidelinesServiceImpl_2_0_A;
+import com.brahos.accessibilitychecker.service.impl.GuidelineHandlerRegistry;
+
+/**
+ * Cache keys: URL spellings that share an entry, and stylesheet changes that
+ * must not.
+ */
+class PageResultCacheTest {
+
+	private static final String PAGE_URL = "https://example.com/";
+
+	private static final String PAGE = """
+			<html><head><link rel="Alternate Stylesheet" href="/site.css"></head><body><p>Text</p></body></html>
+			""";
+
+	private final Map<String, String> served = new HashMap<>();
+	private PageResultCache cache;
+	private AtomicInteger evaluations;
+
+	@BeforeEach
+	void setUp() {
+		PageTransport transport = (uri, headers, timeout) -> {
+			String body = served.get(uri.toString());
+			if (body == null) {
+				return new PageTransport.Response(uri, 404, Map.of(), "");
+			}
+			return new PageTransport.Response(uri, 200, Map.of("content-type", "text/css"), body);
+		};
+		PageFetcher fetcher = new PageFetcher(transport, mock(StoredPageRepository.class));
+		ReflectionTestUtils.setField(fetcher, "timeoutMillis", 1000);
+		ReflectionTestUtils.setField(fetcher, "userAgent", "");
+
+		GuidelineHandlerRegistry registry = new GuidelineHandlerRegistry(
+				mock(AccessibilityGuidelinesServiceImpl_2_0_A.class), mock(WcagAccessibilityGuidelines_2_0_AA.class),
+				mock(WcagAccessibilityGuidelines_2_0_AAA.class));
+		cache = new PageResultCache(new ConcurrentMapCacheManager(PageResultCache.CACHE_NAME), registry, fetcher,
+				new ScanPipeline());
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "ruleSetVersion", "1");
+		ReflectionTestUtils.setField(cache, "maxStylesheets", 20);
+		ReflectionTestUtils.setField(cache, "stylesheetRecheckSeconds", 0L);
+		cache.init();
+		evaluations = new AtomicInteger();
+	}
+
+	@Test
+	void normalizesTriviallyDifferentSpellings() {
+		assertEquals("https://example.com/", PageResultCache.normalize(" HTTPS://Example.COM:443 "));
+		assertEquals("http://example.com/a?b=1", PageResultCache.normalize("http://example.com:80/a?b=1#top"));
+		assertEquals("http://example.com:8080/A", PageResultCache.normalize("http://EXAMPLE.com:8080/A"));
+		assertEquals("https://example.com/a%20b", PageResultCache.normalize("https://example.com/a%20b"));
+	}
+
+	@Test
+	void leavesUnparseableUrlsAsGiven() {
+		assertEquals("not a url", PageResultCache.normalize(" not a url "));
+	}
+
+	@Test
+	void reusesTheResultWhileTheStylesheetIsUnchanged() throws Exception {
+		served.put("https://example.com/site.css", "p { color: #777; }");
+		scan(null);
+		scan(null);
+		assertEquals(1, evaluations.get());
+	}
+
+	@Test
+	void reevaluatesWhenALinkedStylesheetChanges() throws Exception {
+		served.put("https://example.com/site.css", "p { color: #777; }");
+		scan(null);
+		served.put("https://example.com/site.css", "p { color: #000; }");
+		scan(null);
+		scan(null);
+		assertEquals(2, evaluations.get());
+	}
+
+	@Test
+	void doesNotCacheWhenAStylesheetCannotBeFetched() throws Exception {
+		scan(null);
+		scan(null);
+		assertEquals(2, evaluations.get());
+	}
+
+	@Test
+	void ignoresStylesheetsInAStaticScan() throws Exception {
+		ScanOptions options = ScanOptions.builder().staticOnly(true).build();
+		scan(options);
+		scan(options);
+		assertEquals(1, evaluations.get());
+	}
+
+	private void scan(ScanOptions options) throws Exception {
+		FetchedPage page = new FetchedPage(PAGE_URL, PAGE, PageResultCache.sha256(PAGE), false);
+		cache.getOrEvaluate(PAGE_URL, "2.0", "AA", page, "scan", options, () -> {
+			evaluations.incrementAndGet();
+			return GuidelineResponse.builder().pageUrl(PAGE_URL).build();
+		});
+	}
+}
@@ -0,0 +1,53 @@
+package com.brahos.accessibilitychecker.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Cutting long snippets to their opening tag: quoted attribute values do not
+ * end the tag, and nothing kept is longer than the maximum length.
+ */
+class SnippetPolicyTest {
+
+	private SnippetPolicy policy;
+
+	@BeforeEach
+	void setUp() {
+		policy = new SnippetPolicy(null);
+		ReflectionTestUtils.setField(policy, "maxLength", 20);
+	}
+
+	@Test
+	void cutsAtTheEndOfTheOpeningTag() {
+		assertEquals("<div id=\"a\">…", policy.openTag("  <div id=\"a\"><p>text</p></div>"));
+	}
+
+	@Test
+	void ignoresClosingBracketsInsideQuotedValues() {
+		assertEquals("<a title=\"x>y\">…", policy.openTag("<a title=\"x>y\">link</a>"));
+		assertEquals("<a title='1>0'>…", policy.openTag("<a title='1>0'>link</a>"));
+	}
+
+	@Test
+	void keepsATagOfExactlyTheMaximumLength() {
+		String tag = "<div class=\"abcdef\">";
+		assertEquals(20, tag.length());
+		assertEquals(tag + "…", policy.openTag(tag + "<p>text</p></div>"));
+	}
+
+	@Test
+	void cutsTagsLongerThanTheMaximumLength() {
+		String tag = "<div class=\"abcdefg\">";
+		assertEquals(21, tag.length());
+		assertEquals(tag.substring(0, 20) + "…", policy.openTag(tag + "text</div>"));
+		assertEquals("<img alt=\"x > y and …", policy.openTag("<img alt=\"x > y and more text\">"));
+	}
+
+	@Test
+	void cutsTextThatIsNotMarkup() {
+		assertEquals("plain text that is l…", policy.openTag("plain text that is longer than twenty"));
+	}
+}
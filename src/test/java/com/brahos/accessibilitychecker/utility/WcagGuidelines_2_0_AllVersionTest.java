@@ -0,0 +1,90 @@
+package com.brahos.accessibilitychecker.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.brahos.accessibilitychecker.model.GuidelineData;
+import com.brahos.accessibilitychecker.model.GuidelineResponse;
+import com.brahos.accessibilitychecker.model.IssueDetails;
+import com.brahos.accessibilitychecker.model.ScanOptions;
+import com.brahos.accessibilitychecker.service.GuidelineExecutorService;
+import com.brahos.accessibilitychecker.service.impl.AccessibilityGuidelinesServiceImpl_2_0_A;
+
+/**
+ * Page scores: guidelines that could not finish count neither as issues nor
+ * as successes, whether the scan runs the whole catalogue or a subset.
+ */
+class WcagGuidelines_2_0_AllVersionTest {
+
+	private static final String URL = "https://example.com/";
+
+	private final Document document = Jsoup.parse("<html><body><img src=a.png></body></html>", URL);
+	private GuidelineExecutorService executor;
+	private WcagGuidelines_2_0_AllVersion guidelines;
+
+	@BeforeEach
+	void setUp() {
+		executor = mock(GuidelineExecutorService.class);
+		guidelines = new WcagGuidelines_2_0_AllVersion(executor);
+		guidelines.wcagAccessibilityGuidelines_2_0_A = mock(AccessibilityGuidelinesServiceImpl_2_0_A.class);
+		ReflectionTestUtils.setField(guidelines, "staticRuleEngine", new StaticRuleEngine());
+		ReflectionTestUtils.setField(guidelines, "snippetPolicy", new SnippetPolicy(null));
+	}
+
+	@Test
+	void scoresASubsetWithAnIncompleteGuidelineAgainstTheGuidelinesItRan() throws Exception {
+		ScanOptions options = ScanOptions.builder().criteria(List.of("1.1.1", "1.3.1", "2.4.2")).build();
+		GuidelineResponse response = execute(options, issue("1.1.1"), success("1.3.1"), incomplete("2.4.2"));
+
+		assertEquals(1, response.getGuidelineIssueCount().intValue());
+		assertEquals(1, response.getGuidelineSuccessCount().intValue());
+		assertEquals(1, response.getGuidelineIncompleteCount().intValue());
+	}
+
+	@Test
+	void scoresAStaticScanWithAnIncompleteGuidelineAgainstTheGuidelinesItRan() throws Exception {
+		ScanOptions options = ScanOptions.builder().staticOnly(true).build();
+		GuidelineResponse response = execute(options, success("1.1.1"), success("1.3.1"), incomplete("2.4.2"));
+
+		assertEquals(0, response.getGuidelineIssueCount().intValue());
+		assertEquals(2, response.getGuidelineSuccessCount().intValue());
+	}
+
+	@Test
+	void scoresAFullScanAgainstTheCatalogue() throws Exception {
+		GuidelineResponse response = execute(null, issue("1.1.1"), success("1.3.1"), incomplete("2.4.2"));
+
+		assertEquals(1, response.getGuidelineIssueCount().intValue());
+		assertEquals(61 - 1 - 1, response.getGuidelineSuccessCount().intValue());
+		assertEquals(1, response.getGuidelineIncompleteCount().intValue());
+	}
+
+	private GuidelineResponse execute(ScanOptions options, GuidelineData... data) throws Exception {
+		GuidelineResponse ran = GuidelineResponse.builder().data(new ArrayList<>(List.of(data))).build();
+		when(executor.executeGuidelines(document, URL, "AA", options)).thenReturn(ran);
+		return guidelines.executeFilter(URL, "2.0", "AA", document, "scan-1", options);
+	}
+
+	private static GuidelineData issue(String guideline) {
+		return GuidelineData.builder().guideline(guideline)
+				.issueDetails(new ArrayList<>(List.of(IssueDetails.builder().build()))).build();
+	}
+
+	private static GuidelineData success(String guideline) {
+		return GuidelineData.builder().guideline(guideline).issueDetails(new ArrayList<>()).build();
+	}
+
+	private static GuidelineData incomplete(String guideline) {
+		return GuidelineData.builder().guideline(guideline).incomplete(true).incompleteReason("Timed out").build();
+	}
+}